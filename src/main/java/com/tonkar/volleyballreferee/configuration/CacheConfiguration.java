@@ -1,17 +1,12 @@
 package com.tonkar.volleyballreferee.configuration;
 
-import org.ehcache.config.builders.*;
-import org.ehcache.config.units.EntryUnit;
-import org.ehcache.core.config.DefaultConfiguration;
-import org.ehcache.jsr107.EhcacheCachingProvider;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.*;
 
-import javax.cache.Caching;
 import java.time.Duration;
-import java.util.*;
 
 @Configuration
 @EnableCaching
@@ -19,24 +14,35 @@ public class CacheConfiguration {
 
     public static final String GLOBAL_STATISTICS_CACHE = "globalStatisticsCache";
     public static final String USER_STATISTICS_CACHE   = "userStatisticsCache";
+    public static final String PRINCIPAL_CACHE         = "principalCache";
+    public static final String GAMES_CACHE             = "gamesCache";
+    public static final String LEAGUES_CACHE           = "leaguesCache";
+    public static final String RANKINGS_CACHE          = "rankingsCache";
+    public static final String DASHBOARDS_CACHE        = "dashboardsCache";
+    public static final String TEAMS_CACHE             = "teamsCache";
 
     @Bean
     public CacheManager cacheManager() {
-        Map<String, org.ehcache.config.CacheConfiguration<?, ?>> caches = new HashMap<>();
-
-        caches.put(GLOBAL_STATISTICS_CACHE, createCacheConfiguration(1, Duration.ofMinutes(30)));
-        caches.put(USER_STATISTICS_CACHE, createCacheConfiguration(20, Duration.ofMinutes(5)));
-
-        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider();
-        DefaultConfiguration configuration = new DefaultConfiguration(caches, this.getClass().getClassLoader());
-        return new JCacheCacheManager(provider.getCacheManager(provider.getDefaultURI(), configuration));
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+        registerCache(cacheManager, GLOBAL_STATISTICS_CACHE, 1, Duration.ofMinutes(30));
+        registerCache(cacheManager, USER_STATISTICS_CACHE, 1000, Duration.ofMinutes(5));
+        registerCache(cacheManager, PRINCIPAL_CACHE, 10000, Duration.ofMinutes(10));
+        registerCache(cacheManager, GAMES_CACHE, 5000, Duration.ofMinutes(10));
+        registerCache(cacheManager, LEAGUES_CACHE, 1000, Duration.ofHours(1));
+        registerCache(cacheManager, RANKINGS_CACHE, 2000, Duration.ofHours(1));
+        registerCache(cacheManager, DASHBOARDS_CACHE, 2000, Duration.ofHours(1));
+        registerCache(cacheManager, TEAMS_CACHE, 2000, Duration.ofHours(1));
+
+        return cacheManager;
     }
 
-    private org.ehcache.config.CacheConfiguration<Object, Object> createCacheConfiguration(long numberOfEntries, Duration duration) {
-        return CacheConfigurationBuilder
-                .newCacheConfigurationBuilder(Object.class, Object.class,
-                                              ResourcePoolsBuilder.newResourcePoolsBuilder().heap(numberOfEntries, EntryUnit.ENTRIES))
-                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(duration))
-                .build();
+    private void registerCache(CaffeineCacheManager cacheManager, String cacheName, long numberOfEntries, Duration duration) {
+        cacheManager.registerCustomCache(cacheName, Caffeine
+                .newBuilder()
+                .maximumSize(numberOfEntries)
+                .expireAfterWrite(duration)
+                .recordStats()
+                .build());
     }
-}
\ No newline at end of file
+}
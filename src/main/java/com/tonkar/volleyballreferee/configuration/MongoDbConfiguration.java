@@ -3,7 +3,9 @@ package com.tonkar.volleyballreferee.configuration;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.*;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.convert.*;
+import org.springframework.data.mongodb.core.messaging.*;
 
 @Configuration
 public class MongoDbConfiguration implements InitializingBean {
@@ -18,4 +20,14 @@ public class MongoDbConfiguration implements InitializingBean {
         mappingMongoConverter.afterPropertiesSet();
     }
 
+    @Bean
+    public MessageListenerContainer messageListenerContainer(MongoTemplate mongoTemplate) {
+        return new DefaultMessageListenerContainer(mongoTemplate) {
+            @Override
+            public boolean isAutoStartup() {
+                return true;
+            }
+        };
+    }
+
 }
\ No newline at end of file
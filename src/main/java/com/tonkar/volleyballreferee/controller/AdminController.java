@@ -11,7 +11,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.UUID;
+import java.util.*;
 
 @RestController
 @Validated
@@ -49,4 +49,34 @@ public class AdminController {
         adminService.updateUserPassword(userId, userPassword.userPassword());
         return new ResponseEntity<>(HttpStatus.OK);
     }
+
+    @PreAuthorize("isAdmin()")
+    @GetMapping(value = "/admin/indexes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<IndexStatsDto>> listIndexStats() {
+        return new ResponseEntity<>(adminService.listIndexStats(), HttpStatus.OK);
+    }
+
+    @PreAuthorize("isAdmin()")
+    @GetMapping(value = "/admin/password-hashing", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PasswordHashingStatsDto> getPasswordHashingStats() {
+        return new ResponseEntity<>(adminService.getPasswordHashingStats(), HttpStatus.OK);
+    }
+
+    @PreAuthorize("isAdmin()")
+    @GetMapping(value = "/admin/caches", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<CacheStatsDto>> listCacheStats() {
+        return new ResponseEntity<>(adminService.listCacheStats(), HttpStatus.OK);
+    }
+
+    @PreAuthorize("isAdmin()")
+    @GetMapping(value = "/admin/maintenance", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MaintenanceReportDto> getLastMaintenanceReport() {
+        return new ResponseEntity<>(adminService.getLastMaintenanceReport(), HttpStatus.OK);
+    }
+
+    @PreAuthorize("isAdmin()")
+    @PostMapping(value = "/admin/maintenance", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MaintenanceReportDto> runMaintenance() {
+        return new ResponseEntity<>(adminService.runMaintenance(), HttpStatus.OK);
+    }
 }
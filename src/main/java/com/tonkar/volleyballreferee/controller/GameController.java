@@ -29,8 +29,10 @@ public class GameController {
                                                           @RequestParam(value = "kind", required = false) java.util.Set<GameType> kinds,
                                                           @RequestParam(value = "gender", required = false) java.util.Set<GenderType> genders,
                                                           @RequestParam("page") @Min(0) int page,
-                                                          @RequestParam("size") @Min(20) @Max(200) int size) {
-        return new ResponseEntity<>(gameService.listGames(user, statuses, kinds, genders, PageRequest.of(page, size)), HttpStatus.OK);
+                                                          @RequestParam("size") @Min(20) @Max(200) int size,
+                                                          @RequestParam(value = "count", required = false, defaultValue = "true") boolean count,
+                                                          @RequestParam(value = "cursor", required = false) String cursor) {
+        return new ResponseEntity<>(gameService.listGames(user, statuses, kinds, genders, PagingRequest.of(page, size, count, cursor)), HttpStatus.OK);
     }
 
     @GetMapping(value = "/games/available", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -41,8 +43,10 @@ public class GameController {
     @GetMapping(value = "/games/completed", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Page<GameSummaryDto>> listCompletedGames(@AuthenticationPrincipal User user,
                                                                    @RequestParam("page") @Min(0) int page,
-                                                                   @RequestParam("size") @Min(20) @Max(200) int size) {
-        return new ResponseEntity<>(gameService.listCompletedGames(user, PageRequest.of(page, size)), HttpStatus.OK);
+                                                                   @RequestParam("size") @Min(20) @Max(200) int size,
+                                                                   @RequestParam(value = "count", required = false, defaultValue = "true") boolean count,
+                                                                   @RequestParam(value = "cursor", required = false) String cursor) {
+        return new ResponseEntity<>(gameService.listCompletedGames(user, PagingRequest.of(page, size, count, cursor)), HttpStatus.OK);
     }
 
     @GetMapping(value = "/games/league/{leagueId}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -51,8 +55,10 @@ public class GameController {
                                                                   @RequestParam(value = "status", required = false) java.util.Set<GameStatus> statuses,
                                                                   @RequestParam(value = "gender", required = false) java.util.Set<GenderType> genders,
                                                                   @RequestParam("page") @Min(0) int page,
-                                                                  @RequestParam("size") @Min(20) @Max(200) int size) {
-        return new ResponseEntity<>(gameService.listGamesInLeague(user, leagueId, statuses, genders, PageRequest.of(page, size)),
+                                                                  @RequestParam("size") @Min(20) @Max(200) int size,
+                                                                  @RequestParam(value = "count", required = false, defaultValue = "true") boolean count,
+                                                                  @RequestParam(value = "cursor", required = false) String cursor) {
+        return new ResponseEntity<>(gameService.listGamesInLeague(user, leagueId, statuses, genders, PagingRequest.of(page, size, count, cursor)),
                                     HttpStatus.OK);
     }
 
@@ -94,6 +100,12 @@ public class GameController {
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
+    @PostMapping(value = "/games/full/bulk", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<GameUpsertResultDto>> upsertGames(@AuthenticationPrincipal User user,
+                                                                 @NotEmpty @Size(max = 200) @RequestBody List<@Valid @NotNull Game> games) {
+        return new ResponseEntity<>(gameService.upsertGames(user, games), HttpStatus.OK);
+    }
+
     @PutMapping(value = "/games", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Void> updateGame(@AuthenticationPrincipal User user, @Valid @NotNull @RequestBody GameSummaryDto gameSummary) {
         gameService.updateGame(user, gameSummary);
@@ -109,6 +121,15 @@ public class GameController {
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
+    @PostMapping(value = "/games/{gameId}/set/{setIndex}/events", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Void> addRallyEvent(@AuthenticationPrincipal User user,
+                                              @PathVariable("gameId") UUID gameId,
+                                              @PathVariable("setIndex") @Positive int setIndex,
+                                              @Valid @NotNull @RequestBody RallyEventDto event) {
+        gameService.addRallyEvent(user, gameId, setIndex, event);
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+
     @PatchMapping(value = "/games/{gameId}/referee/{refereeUserId}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Void> setReferee(@AuthenticationPrincipal User user,
                                            @PathVariable("gameId") UUID gameId,
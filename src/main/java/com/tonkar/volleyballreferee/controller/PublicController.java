@@ -6,16 +6,19 @@ import com.tonkar.volleyballreferee.service.*;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.*;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.*;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.*;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Supplier;
 
 @RestController
 @Validated
@@ -25,6 +28,8 @@ public class PublicController {
 
     private final StatisticsService statisticsService;
     private final GameService       gameService;
+    private final ScoreSheetService scoreSheetService;
+    private final LiveScoreService  liveScoreService;
     private final TeamService       teamService;
     private final LeagueService     leagueService;
     private final UserService       userService;
@@ -34,26 +39,58 @@ public class PublicController {
         return new ResponseEntity<>(userService.signInUser(loginCredentials.pseudo(), loginCredentials.password()), HttpStatus.OK);
     }
 
+    @PostMapping(value = "/public/users/token/refresh", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UserTokenDto> refreshToken(@Valid @NotNull @RequestBody RefreshTokenDto refreshToken) {
+        return new ResponseEntity<>(userService.refreshToken(refreshToken.refreshToken()), HttpStatus.OK);
+    }
+
     @GetMapping(value = "/public/statistics", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<StatisticsGroupDto> getGlobalStatistics() {
         return new ResponseEntity<>(statisticsService.getGlobalStatistics(), HttpStatus.OK);
     }
 
     @GetMapping(value = "/public/games/{gameId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Game> getGame(@PathVariable("gameId") UUID gameId) {
-        return new ResponseEntity<>(gameService.getGame(gameId), HttpStatus.OK);
+    public ResponseEntity<Game> getGame(@PathVariable("gameId") UUID gameId, WebRequest request) {
+        return conditionalResponse(request, gameService.getGameVersion(gameId), () -> gameService.getGame(gameId));
     }
 
     @GetMapping(value = "/public/games/{gameId}/score-sheet")
-    public ResponseEntity<ByteArrayResource> getScoreSheet(@PathVariable("gameId") UUID gameId) {
-        FileWrapper scoreSheet = gameService.getScoreSheet(gameId);
-        ByteArrayResource resource = new ByteArrayResource(scoreSheet.data());
-        return ResponseEntity
+    public ResponseEntity<StreamingResponseBody> getScoreSheet(@PathVariable("gameId") UUID gameId,
+                                                               WebRequest request) throws IOException {
+        ScoreSheetFile scoreSheet = scoreSheetService.getScoreSheet(gameId, acceptsGzip(request));
+
+        if (request.checkNotModified(scoreSheet.eTag(), scoreSheet.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity
                 .ok()
+                .eTag(scoreSheet.eTag())
+                .lastModified(scoreSheet.lastModified())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename=" + scoreSheet.filename())
-                .contentType(MediaType.TEXT_HTML)
-                .contentLength(scoreSheet.data().length)
-                .body(resource);
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8));
+
+        if (scoreSheet.gzipped()) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        if (scoreSheet.contentLength() >= 0) {
+            builder.contentLength(scoreSheet.contentLength());
+        }
+
+        StreamingResponseBody body = scoreSheet.content()::writeTo;
+        return builder.body(body);
+    }
+
+    @GetMapping(value = "/public/games/{gameId}/score-sheet.pdf")
+    public ResponseEntity<StreamingResponseBody> getScoreSheetPdf(@PathVariable("gameId") UUID gameId, WebRequest request) {
+        ResourceVersionDto version = gameService.getGameVersion(gameId);
+
+        if (request.checkNotModified(version.eTag(), version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        return pdfResponse(version, scoreSheetService.getScoreSheetPdf(gameId));
     }
 
     @GetMapping(value = "/public/games/live", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -64,14 +101,25 @@ public class PublicController {
         return new ResponseEntity<>(gameService.listLiveGames(kinds, genders, PageRequest.of(page, size)), HttpStatus.OK);
     }
 
+    @GetMapping(value = "/public/games/live/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamLiveGames() {
+        return new ResponseEntity<>(liveScoreService.subscribeToLiveGames(), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/public/games/{gameId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamGame(@PathVariable("gameId") UUID gameId) {
+        return new ResponseEntity<>(liveScoreService.subscribeToGame(gameId), HttpStatus.OK);
+    }
+
     @GetMapping(value = "/public/games/token/{token}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Page<GameSummaryDto>> listGamesMatchingToken(@PathVariable("token") @NotBlank @Size(min = 3) String token,
                                                                        @RequestParam(value = "status", required = false) java.util.Set<GameStatus> statuses,
                                                                        @RequestParam(value = "kind", required = false) java.util.Set<GameType> kinds,
                                                                        @RequestParam(value = "gender", required = false) java.util.Set<GenderType> genders,
                                                                        @RequestParam("page") @Min(0) int page,
-                                                                       @RequestParam("size") @Min(20) @Max(200) int size) {
-        return new ResponseEntity<>(gameService.listGamesMatchingToken(token, statuses, kinds, genders, PageRequest.of(page, size)),
+                                                                       @RequestParam("size") @Min(20) @Max(200) int size,
+                                                                       @RequestParam(value = "count", required = false, defaultValue = "true") boolean count) {
+        return new ResponseEntity<>(gameService.listGamesMatchingToken(token, statuses, kinds, genders, PagingRequest.of(page, size, count)),
                                     HttpStatus.OK);
     }
 
@@ -81,8 +129,10 @@ public class PublicController {
                                                                           @RequestParam(value = "kind", required = false) java.util.Set<GameType> kinds,
                                                                           @RequestParam(value = "gender", required = false) java.util.Set<GenderType> genders,
                                                                           @RequestParam("page") @Min(0) int page,
-                                                                          @RequestParam("size") @Min(20) @Max(200) int size) {
-        return new ResponseEntity<>(gameService.listGamesWithScheduleDate(date, statuses, kinds, genders, PageRequest.of(page, size)),
+                                                                          @RequestParam("size") @Min(20) @Max(200) int size,
+                                                                          @RequestParam(value = "count", required = false, defaultValue = "true") boolean count,
+                                                                          @RequestParam(value = "cursor", required = false) String cursor) {
+        return new ResponseEntity<>(gameService.listGamesWithScheduleDate(date, statuses, kinds, genders, PagingRequest.of(page, size, count, cursor)),
                                     HttpStatus.OK);
     }
 
@@ -91,13 +141,16 @@ public class PublicController {
                                                                   @RequestParam(value = "status", required = false) java.util.Set<GameStatus> statuses,
                                                                   @RequestParam(value = "gender", required = false) java.util.Set<GenderType> genders,
                                                                   @RequestParam("page") @Min(0) int page,
-                                                                  @RequestParam("size") @Min(20) @Max(200) int size) {
-        return new ResponseEntity<>(gameService.listGamesInLeague(leagueId, statuses, genders, PageRequest.of(page, size)), HttpStatus.OK);
+                                                                  @RequestParam("size") @Min(20) @Max(200) int size,
+                                                                  @RequestParam(value = "count", required = false, defaultValue = "true") boolean count,
+                                                                  @RequestParam(value = "cursor", required = false) String cursor) {
+        return new ResponseEntity<>(gameService.listGamesInLeague(leagueId, statuses, genders, PagingRequest.of(page, size, count, cursor)), HttpStatus.OK);
     }
 
     @GetMapping(value = "/public/games/league/{leagueId}/group", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<LeagueDashboardDto> getGamesInLeagueGroupedByStatus(@PathVariable("leagueId") UUID leagueId) {
-        return new ResponseEntity<>(gameService.getGamesInLeagueGroupedByStatus(leagueId), HttpStatus.OK);
+    public ResponseEntity<LeagueDashboardDto> getGamesInLeagueGroupedByStatus(@PathVariable("leagueId") UUID leagueId, WebRequest request) {
+        return conditionalResponse(request, gameService.getVersionOfGamesInLeague(leagueId),
+                                   () -> gameService.getGamesInLeagueGroupedByStatus(leagueId));
     }
 
     @GetMapping(value = "/public/games/league/{leagueId}/live", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -120,8 +173,10 @@ public class PublicController {
                                                                         @PathVariable("teamId") UUID teamId,
                                                                         @RequestParam(value = "status", required = false) java.util.Set<GameStatus> statuses,
                                                                         @RequestParam("page") @Min(0) int page,
-                                                                        @RequestParam("size") @Min(20) @Max(200) int size) {
-        return new ResponseEntity<>(gameService.listGamesOfTeamInLeague(leagueId, teamId, statuses, PageRequest.of(page, size)),
+                                                                        @RequestParam("size") @Min(20) @Max(200) int size,
+                                                                        @RequestParam(value = "count", required = false, defaultValue = "true") boolean count,
+                                                                        @RequestParam(value = "cursor", required = false) String cursor) {
+        return new ResponseEntity<>(gameService.listGamesOfTeamInLeague(leagueId, teamId, statuses, PagingRequest.of(page, size, count, cursor)),
                                     HttpStatus.OK);
     }
 
@@ -131,15 +186,19 @@ public class PublicController {
                                                                     @RequestParam(value = "status", required = false) java.util.Set<GameStatus> statuses,
                                                                     @RequestParam(value = "gender", required = false) java.util.Set<GenderType> genders,
                                                                     @RequestParam("page") @Min(0) int page,
-                                                                    @RequestParam("size") @Min(20) @Max(200) int size) {
-        return new ResponseEntity<>(gameService.listGamesInDivision(leagueId, divisionName, statuses, genders, PageRequest.of(page, size)),
+                                                                    @RequestParam("size") @Min(20) @Max(200) int size,
+                                                                    @RequestParam(value = "count", required = false, defaultValue = "true") boolean count,
+                                                                    @RequestParam(value = "cursor", required = false) String cursor) {
+        return new ResponseEntity<>(gameService.listGamesInDivision(leagueId, divisionName, statuses, genders, PagingRequest.of(page, size, count, cursor)),
                                     HttpStatus.OK);
     }
 
     @GetMapping(value = "/public/games/league/{leagueId}/division/{divisionName}/group", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<LeagueDashboardDto> getGamesInDivisionGroupedByStatus(@PathVariable("leagueId") UUID leagueId,
-                                                                                @PathVariable("divisionName") String divisionName) {
-        return new ResponseEntity<>(gameService.getGamesInDivisionGroupedByStatus(leagueId, divisionName), HttpStatus.OK);
+                                                                                @PathVariable("divisionName") String divisionName,
+                                                                                WebRequest request) {
+        return conditionalResponse(request, gameService.getVersionOfGamesInDivision(leagueId, divisionName),
+                                   () -> gameService.getGamesInDivisionGroupedByStatus(leagueId, divisionName));
     }
 
     @GetMapping(value = "/public/games/league/{leagueId}/division/{divisionName}/live", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -166,9 +225,11 @@ public class PublicController {
                                                                           @PathVariable("teamId") UUID teamId,
                                                                           @RequestParam(value = "status", required = false) java.util.Set<GameStatus> statuses,
                                                                           @RequestParam("page") @Min(0) int page,
-                                                                          @RequestParam("size") @Min(20) @Max(200) int size) {
+                                                                          @RequestParam("size") @Min(20) @Max(200) int size,
+                                                                          @RequestParam(value = "count", required = false, defaultValue = "true") boolean count,
+                                                                          @RequestParam(value = "cursor", required = false) String cursor) {
         return new ResponseEntity<>(
-                gameService.listGamesOfTeamInDivision(leagueId, divisionName, teamId, statuses, PageRequest.of(page, size)), HttpStatus.OK);
+                gameService.listGamesOfTeamInDivision(leagueId, divisionName, teamId, statuses, PagingRequest.of(page, size, count, cursor)), HttpStatus.OK);
     }
 
     @GetMapping(value = "/public/games/league/{leagueId}/division/{divisionName}/rankings", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -178,16 +239,28 @@ public class PublicController {
     }
 
     @GetMapping("/public/games/league/{leagueId}/division/{divisionName}/excel")
-    public ResponseEntity<ByteArrayResource> listGamesInDivisionExcel(@PathVariable("leagueId") UUID leagueId,
-                                                                      @PathVariable("divisionName") String divisionName) throws IOException {
-        FileWrapper excelDivision = gameService.listGamesInDivisionExcel(leagueId, divisionName);
-        ByteArrayResource resource = new ByteArrayResource(excelDivision.data());
+    public ResponseEntity<StreamingResponseBody> listGamesInDivisionExcel(@PathVariable("leagueId") UUID leagueId,
+                                                                          @PathVariable("divisionName") String divisionName) {
+        StreamingFileWrapper excelDivision = gameService.listGamesInDivisionExcel(leagueId, divisionName);
+        StreamingResponseBody body = excelDivision.content()::writeTo;
         return ResponseEntity
                 .ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename=" + excelDivision.filename())
                 .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .contentLength(excelDivision.data().length)
-                .body(resource);
+                .body(body);
+    }
+
+    @GetMapping("/public/games/league/{leagueId}/division/{divisionName}/score-sheets.pdf")
+    public ResponseEntity<StreamingResponseBody> listScoreSheetsPdfInDivision(@PathVariable("leagueId") UUID leagueId,
+                                                                              @PathVariable("divisionName") String divisionName,
+                                                                              WebRequest request) {
+        ResourceVersionDto version = gameService.getVersionOfGamesInDivision(leagueId, divisionName);
+
+        if (request.checkNotModified(version.eTag(), version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        return pdfResponse(version, scoreSheetService.listScoreSheetsPdfInDivision(leagueId, divisionName));
     }
 
     @GetMapping(value = "/public/teams/league/{leagueId}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -202,8 +275,35 @@ public class PublicController {
     }
 
     @GetMapping(value = "/public/leagues/{leagueId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<League> getLeague(@PathVariable("leagueId") UUID leagueId) {
-        return new ResponseEntity<>(leagueService.getLeague(leagueId), HttpStatus.OK);
+    public ResponseEntity<League> getLeague(@PathVariable("leagueId") UUID leagueId, WebRequest request) {
+        return conditionalResponse(request, leagueService.getLeagueVersion(leagueId), () -> leagueService.getLeague(leagueId));
+    }
+
+    private ResponseEntity<StreamingResponseBody> pdfResponse(ResourceVersionDto version, StreamingFileWrapper file) {
+        StreamingResponseBody body = file.content()::writeTo;
+        return ResponseEntity
+                .ok()
+                .eTag(version.eTag())
+                .lastModified(version.lastModified())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename=" + file.filename())
+                .contentType(MediaType.APPLICATION_PDF)
+                .body(body);
+    }
+
+    private boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && Arrays
+                .stream(acceptEncoding.split(","))
+                .map(encoding -> encoding.replace(" ", "").toLowerCase(Locale.ROOT))
+                .anyMatch(encoding -> encoding.startsWith("gzip") && !encoding.matches("gzip;q=0(\\.0*)?"));
+    }
+
+    private <T> ResponseEntity<T> conditionalResponse(WebRequest request, ResourceVersionDto version, Supplier<T> body) {
+        if (request.checkNotModified(version.eTag(), version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        } else {
+            return ResponseEntity.ok().eTag(version.eTag()).lastModified(version.lastModified()).body(body.get());
+        }
     }
 
 }
@@ -1,13 +1,18 @@
 package com.tonkar.volleyballreferee.dao;
 
+import com.tonkar.volleyballreferee.dto.*;
 import com.tonkar.volleyballreferee.entity.*;
+import org.springframework.data.domain.Pageable;
 
+import java.util.*;
 import java.util.Set;
 
 public class DaoUtils {
 
     public static final String _id = "_id";
 
+    public static final int TRIGRAM_LENGTH = 3;
+
     public static Set<GameStatus> computeStatuses(Set<GameStatus> statuses) {
         if (statuses == null || statuses.isEmpty()) {
             statuses = Set.of(GameStatus.values());
@@ -28,4 +33,28 @@ public class DaoUtils {
         }
         return genders;
     }
+
+    public static boolean isTotalRequested(Pageable pageable) {
+        return !(pageable instanceof PagingRequest pagingRequest) || pagingRequest.isTotalRequested();
+    }
+
+    public static PageCursor getCursor(Pageable pageable) {
+        return pageable instanceof PagingRequest pagingRequest ? pagingRequest.getCursor() : null;
+    }
+
+    public static List<String> computeTrigrams(String... values) {
+        Set<String> trigrams = new LinkedHashSet<>();
+
+        for (String value : values) {
+            if (value != null) {
+                String normalizedValue = value.trim().toLowerCase(Locale.ROOT);
+
+                for (int index = 0; index + TRIGRAM_LENGTH <= normalizedValue.length(); index++) {
+                    trigrams.add(normalizedValue.substring(index, index + TRIGRAM_LENGTH));
+                }
+            }
+        }
+
+        return new ArrayList<>(trigrams);
+    }
 }
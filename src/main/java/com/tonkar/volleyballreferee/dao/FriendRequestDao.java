@@ -3,6 +3,7 @@ package com.tonkar.volleyballreferee.dao;
 import com.mongodb.client.result.UpdateResult;
 import com.tonkar.volleyballreferee.entity.FriendRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.*;
 import org.springframework.stereotype.Repository;
@@ -61,6 +62,14 @@ public class FriendRequestDao {
         return (updateResult.getMatchedCount() > 0 && updateResult.getModifiedCount() > 0) || updateResult.getMatchedCount() == 0;
     }
 
+    public List<FriendRequest> findByIdGreaterThan(UUID id, int limit) {
+        Query query = new Query().with(Sort.by(_id)).limit(limit);
+        if (id != null) {
+            query.addCriteria(Criteria.where(_id).gt(id));
+        }
+        return mongoTemplate.find(query, FriendRequest.class);
+    }
+
     public void deleteByIdAndReceiverId(UUID id, UUID receiverId) {
         Query query = Query.query(Criteria.where(_id).is(id).and(FriendRequest.Fields.receiverId).is(receiverId));
         mongoTemplate.remove(query, FriendRequest.class);
@@ -69,4 +78,9 @@ public class FriendRequestDao {
     public void deleteById(FriendRequest friendRequest) {
         mongoTemplate.remove(friendRequest);
     }
+
+    public long deleteByIdIn(Collection<UUID> ids) {
+        Query query = Query.query(Criteria.where(_id).in(ids));
+        return mongoTemplate.remove(query, FriendRequest.class).getDeletedCount();
+    }
 }
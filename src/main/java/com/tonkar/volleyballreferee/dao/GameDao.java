@@ -1,19 +1,27 @@
 package com.tonkar.volleyballreferee.dao;
 
+import com.mongodb.client.model.changestream.*;
 import com.mongodb.client.result.UpdateResult;
 import com.tonkar.volleyballreferee.dto.*;
 import com.tonkar.volleyballreferee.entity.*;
 import com.tonkar.volleyballreferee.entity.Set;
 import lombok.*;
+import lombok.experimental.FieldNameConstants;
+import org.bson.Document;
 import org.springframework.data.domain.*;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.*;
+import org.springframework.data.mongodb.core.messaging.*;
 import org.springframework.data.mongodb.core.query.*;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.ErrorHandler;
 
 import java.time.*;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.regex.Pattern;
+import java.util.stream.*;
 
 import static com.tonkar.volleyballreferee.dao.DaoUtils._id;
 
@@ -76,35 +84,29 @@ public class GameDao {
             .and(Game.Fields.scorer)
             .as(GameSummaryDto.Fields.scorerName);
 
-    private final MongoTemplate mongoTemplate;
+    private final static List<String> sSearchedFields = List.of(Game.Fields.homeTeam + "." + Team.Fields.name,
+                                                                Game.Fields.guestTeam + "." + Team.Fields.name,
+                                                                Game.Fields.league + "." + LeagueSummaryDto.Fields.name,
+                                                                Game.Fields.refereeName);
 
-    public void save(Game game) {
-        mongoTemplate.save(game);
-    }
+    private final static String sRelevance = "relevance";
 
-    public Page<GameSummaryDto> listLiveGames(java.util.Set<GameType> kinds, java.util.Set<GenderType> genders, Pageable pageable) {
-        kinds = DaoUtils.computeKinds(kinds);
-        genders = DaoUtils.computeGenders(genders);
+    private final static int sSearchTokensBatchSize = 500;
 
-        Criteria criteria = Criteria
-                .where(Game.Fields.status)
-                .is(GameStatus.LIVE)
-                .and(Game.Fields.kind)
-                .in(kinds)
-                .and(Game.Fields.gender)
-                .in(genders);
+    private final MongoTemplate            mongoTemplate;
+    private final MessageListenerContainer messageListenerContainer;
 
-        long total = mongoTemplate.count(Query.query(criteria), Game.class);
+    public void save(Game game) {
+        game.setSearchTokens(computeSearchTokens(game));
+        mongoTemplate.save(game);
+    }
 
-        MatchOperation matchOperation = Aggregation.match(criteria);
-        SortOperation sortOperation = Aggregation.sort(Sort.Direction.DESC, GameSummaryDto.Fields.scheduledAt);
-        SkipOperation skipOperation = Aggregation.skip((long) pageable.getPageNumber() * (long) pageable.getPageSize());
-        LimitOperation limitOperation = Aggregation.limit(pageable.getPageSize());
-        List<GameSummaryDto> games = mongoTemplate
-                .aggregate(Aggregation.newAggregation(matchOperation, sGameSummaryProjection, sortOperation, skipOperation, limitOperation),
-                           mongoTemplate.getCollectionName(Game.class), GameSummaryDto.class)
+    public List<GameSummaryDto> listGamesWithStatus(GameStatus status) {
+        MatchOperation matchOperation = Aggregation.match(Criteria.where(Game.Fields.status).is(status));
+        return mongoTemplate
+                .aggregate(Aggregation.newAggregation(matchOperation, sGameSummaryProjection), mongoTemplate.getCollectionName(Game.class),
+                           GameSummaryDto.class)
                 .getMappedResults();
-        return new PageDto<>(games, pageable, total);
     }
 
     public Page<GameSummaryDto> listGamesMatchingToken(String token,
@@ -116,6 +118,9 @@ public class GameDao {
         kinds = DaoUtils.computeKinds(kinds);
         genders = DaoUtils.computeGenders(genders);
 
+        String regex = Pattern.quote(token.trim());
+        List<String> trigrams = DaoUtils.computeTrigrams(token);
+
         Criteria criteria = Criteria
                 .where(Game.Fields.status)
                 .in(statuses)
@@ -123,22 +128,29 @@ public class GameDao {
                 .in(kinds)
                 .and(Game.Fields.gender)
                 .in(genders)
-                .orOperator(Criteria.where(Game.Fields.homeTeam + "." + Team.Fields.name).regex(".*" + token + ".*", "i"),
-                            Criteria.where(Game.Fields.guestTeam + "." + Team.Fields.name).regex(".*" + token + ".*", "i"),
-                            Criteria.where(Game.Fields.league + "." + LeagueSummaryDto.Fields.name).regex(".*" + token + ".*", "i"),
-                            Criteria.where(Game.Fields.refereeName).regex(".*" + token + ".*", "i"));
+                .orOperator(sSearchedFields.stream().map(field -> Criteria.where(field).regex(regex, "i")).toList());
 
-        long total = mongoTemplate.count(Query.query(criteria), Game.class);
+        if (!trigrams.isEmpty()) {
+            criteria = criteria.and(Game.Fields.searchTokens).all(trigrams);
+        }
 
-        MatchOperation matchOperation = Aggregation.match(criteria);
-        SortOperation sortOperation = Aggregation.sort(Sort.Direction.DESC, GameSummaryDto.Fields.scheduledAt);
-        SkipOperation skipOperation = Aggregation.skip((long) pageable.getPageNumber() * (long) pageable.getPageSize());
-        LimitOperation limitOperation = Aggregation.limit(pageable.getPageSize());
-        List<GameSummaryDto> games = mongoTemplate
-                .aggregate(Aggregation.newAggregation(matchOperation, sGameSummaryProjection, sortOperation, skipOperation, limitOperation),
-                           mongoTemplate.getCollectionName(Game.class), GameSummaryDto.class)
-                .getMappedResults();
-        return new PageDto<>(games, pageable, total);
+        ArithmeticOperators.Add relevance = ArithmeticOperators.Add.valueOf(0);
+
+        for (String field : sSearchedFields) {
+            relevance = relevance.add(ConditionalOperators
+                                              .when(StringOperators.valueOf(field).regexMatch("^" + regex, "i"))
+                                              .then(2)
+                                              .otherwiseValueOf(ConditionalOperators
+                                                                 .when(StringOperators.valueOf(field).regexMatch(regex, "i"))
+                                                                 .then(1)
+                                                                 .otherwise(0)));
+        }
+
+        AddFieldsOperation relevanceOperation = Aggregation.addFields().addField(sRelevance).withValueOf(relevance).build();
+        SortOperation sortOperation = Aggregation.sort(Sort.by(Sort.Order.desc(sRelevance), Sort.Order.desc(Game.Fields.scheduledAt),
+                                                               Sort.Order.desc(_id)));
+
+        return listGameSummaries(Aggregation.match(criteria), List.of(relevanceOperation, sortOperation), false, pageable);
     }
 
     public Page<GameSummaryDto> listGamesWithScheduleDate(LocalDate date,
@@ -162,17 +174,7 @@ public class GameDao {
                 .in(genders)
                 .andOperator(Criteria.where(Game.Fields.scheduledAt).gte(fromDate), Criteria.where(Game.Fields.scheduledAt).lt(toDate));
 
-        long total = mongoTemplate.count(Query.query(criteria), Game.class);
-
-        MatchOperation matchOperation = Aggregation.match(criteria);
-        SortOperation sortOperation = Aggregation.sort(Sort.Direction.DESC, GameSummaryDto.Fields.scheduledAt);
-        SkipOperation skipOperation = Aggregation.skip((long) pageable.getPageNumber() * (long) pageable.getPageSize());
-        LimitOperation limitOperation = Aggregation.limit(pageable.getPageSize());
-        List<GameSummaryDto> games = mongoTemplate
-                .aggregate(Aggregation.newAggregation(matchOperation, sGameSummaryProjection, sortOperation, skipOperation, limitOperation),
-                           mongoTemplate.getCollectionName(Game.class), GameSummaryDto.class)
-                .getMappedResults();
-        return new PageDto<>(games, pageable, total);
+        return listGameSummaries(criteria, pageable);
     }
 
     public List<GameSummaryDto> listGamesInLeague(UUID leagueId) {
@@ -212,17 +214,7 @@ public class GameDao {
                 .and(Game.Fields.gender)
                 .in(genders);
 
-        long total = mongoTemplate.count(Query.query(criteria), Game.class);
-
-        MatchOperation matchOperation = Aggregation.match(criteria);
-        SortOperation sortOperation = Aggregation.sort(Sort.Direction.DESC, GameSummaryDto.Fields.scheduledAt);
-        SkipOperation skipOperation = Aggregation.skip((long) pageable.getPageNumber() * (long) pageable.getPageSize());
-        LimitOperation limitOperation = Aggregation.limit(pageable.getPageSize());
-        List<GameSummaryDto> games = mongoTemplate
-                .aggregate(Aggregation.newAggregation(matchOperation, sGameSummaryProjection, sortOperation, skipOperation, limitOperation),
-                           mongoTemplate.getCollectionName(Game.class), GameSummaryDto.class)
-                .getMappedResults();
-        return new PageDto<>(games, pageable, total);
+        return listGameSummaries(criteria, pageable);
     }
 
     public Page<GameSummaryDto> listGamesInDivision(UUID leagueId,
@@ -243,17 +235,7 @@ public class GameDao {
                 .and(Game.Fields.gender)
                 .in(genders);
 
-        long total = mongoTemplate.count(Query.query(criteria), Game.class);
-
-        MatchOperation matchOperation = Aggregation.match(criteria);
-        SortOperation sortOperation = Aggregation.sort(Sort.Direction.DESC, GameSummaryDto.Fields.scheduledAt);
-        SkipOperation skipOperation = Aggregation.skip((long) pageable.getPageNumber() * (long) pageable.getPageSize());
-        LimitOperation limitOperation = Aggregation.limit(pageable.getPageSize());
-        List<GameSummaryDto> games = mongoTemplate
-                .aggregate(Aggregation.newAggregation(matchOperation, sGameSummaryProjection, sortOperation, skipOperation, limitOperation),
-                           mongoTemplate.getCollectionName(Game.class), GameSummaryDto.class)
-                .getMappedResults();
-        return new PageDto<>(games, pageable, total);
+        return listGameSummaries(criteria, pageable);
     }
 
     public Page<GameSummaryDto> listGamesOfTeamInLeague(UUID leagueId, UUID teamId, java.util.Set<GameStatus> statuses, Pageable pageable) {
@@ -267,17 +249,33 @@ public class GameDao {
                 .orOperator(Criteria.where(Game.Fields.homeTeam + "." + _id).is(teamId),
                             Criteria.where(Game.Fields.guestTeam + "." + _id).is(teamId));
 
-        long total = mongoTemplate.count(Query.query(criteria), Game.class);
+        return listGameSummaries(criteria, pageable);
+    }
 
-        MatchOperation matchOperation = Aggregation.match(criteria);
-        SortOperation sortOperation = Aggregation.sort(Sort.Direction.DESC, GameSummaryDto.Fields.scheduledAt);
-        SkipOperation skipOperation = Aggregation.skip((long) pageable.getPageNumber() * (long) pageable.getPageSize());
-        LimitOperation limitOperation = Aggregation.limit(pageable.getPageSize());
-        List<GameSummaryDto> games = mongoTemplate
-                .aggregate(Aggregation.newAggregation(matchOperation, sGameSummaryProjection, sortOperation, skipOperation, limitOperation),
-                           mongoTemplate.getCollectionName(Game.class), GameSummaryDto.class)
-                .getMappedResults();
-        return new PageDto<>(games, pageable, total);
+    public ResourceVersionDto findVersionOfGamesInLeague(UUID leagueId) {
+        return findVersionOfGames(Criteria.where(Game.Fields.league + "." + _id).is(leagueId));
+    }
+
+    public ResourceVersionDto findVersionOfGamesInDivision(UUID leagueId, String divisionName) {
+        return findVersionOfGames(Criteria
+                                          .where(Game.Fields.league + "." + _id)
+                                          .is(leagueId)
+                                          .and(Game.Fields.league + "." + Game.SelectedLeague.Fields.division)
+                                          .is(divisionName));
+    }
+
+    private ResourceVersionDto findVersionOfGames(Criteria criteria) {
+        GroupOperation groupOperation = Aggregation
+                .group()
+                .max(Game.Fields.updatedAt)
+                .as(ResourceVersionDto.Fields.lastModified)
+                .count()
+                .as(ResourceVersionDto.Fields.count);
+        ResourceVersionDto version = mongoTemplate
+                .aggregate(Aggregation.newAggregation(Aggregation.match(criteria), groupOperation),
+                           mongoTemplate.getCollectionName(Game.class), ResourceVersionDto.class)
+                .getUniqueMappedResult();
+        return version == null ? new ResourceVersionDto(0L, 0L) : version;
     }
 
     public LeagueDashboardDto findGamesInLeagueGroupedByStatus(UUID leagueId) {
@@ -302,16 +300,6 @@ public class GameDao {
                 .getUniqueMappedResult();
     }
 
-    public List<GameSummaryDto> listLiveGamesInLeague(UUID leagueId) {
-        MatchOperation matchOperation = Aggregation.match(
-                Criteria.where(Game.Fields.league + "." + _id).is(leagueId).and(Game.Fields.status).is(GameStatus.LIVE));
-        SortOperation sortOperation = Aggregation.sort(Sort.Direction.DESC, GameSummaryDto.Fields.scheduledAt);
-        return mongoTemplate
-                .aggregate(Aggregation.newAggregation(matchOperation, sGameSummaryProjection, sortOperation),
-                           mongoTemplate.getCollectionName(Game.class), GameSummaryDto.class)
-                .getMappedResults();
-    }
-
     public List<GameSummaryDto> listLast10GamesInLeague(UUID leagueId) {
         MatchOperation matchOperation = Aggregation.match(
                 Criteria.where(Game.Fields.league + "." + _id).is(leagueId).and(Game.Fields.status).is(GameStatus.COMPLETED));
@@ -351,17 +339,7 @@ public class GameDao {
                 .orOperator(Criteria.where(Game.Fields.homeTeam + "." + _id).is(teamId),
                             Criteria.where(Game.Fields.guestTeam + "." + _id).is(teamId));
 
-        long total = mongoTemplate.count(Query.query(criteria), Game.class);
-
-        MatchOperation matchOperation = Aggregation.match(criteria);
-        SortOperation sortOperation = Aggregation.sort(Sort.Direction.DESC, GameSummaryDto.Fields.scheduledAt);
-        SkipOperation skipOperation = Aggregation.skip((long) pageable.getPageNumber() * (long) pageable.getPageSize());
-        LimitOperation limitOperation = Aggregation.limit(pageable.getPageSize());
-        List<GameSummaryDto> games = mongoTemplate
-                .aggregate(Aggregation.newAggregation(matchOperation, sGameSummaryProjection, sortOperation, skipOperation, limitOperation),
-                           mongoTemplate.getCollectionName(Game.class), GameSummaryDto.class)
-                .getMappedResults();
-        return new PageDto<>(games, pageable, total);
+        return listGameSummaries(criteria, pageable);
     }
 
     public LeagueDashboardDto findGamesInDivisionGroupedByStatus(UUID leagueId, String divisionName) {
@@ -390,21 +368,6 @@ public class GameDao {
                 .getUniqueMappedResult();
     }
 
-    public List<GameSummaryDto> listLiveGamesInDivision(UUID leagueId, String divisionName) {
-        MatchOperation matchOperation = Aggregation.match(Criteria
-                                                                  .where(Game.Fields.league + "." + _id)
-                                                                  .is(leagueId)
-                                                                  .and(Game.Fields.league + "." + Game.SelectedLeague.Fields.division)
-                                                                  .is(divisionName)
-                                                                  .and(Game.Fields.status)
-                                                                  .is(GameStatus.LIVE));
-        SortOperation sortOperation = Aggregation.sort(Sort.Direction.DESC, GameSummaryDto.Fields.scheduledAt);
-        return mongoTemplate
-                .aggregate(Aggregation.newAggregation(matchOperation, sGameSummaryProjection, sortOperation),
-                           mongoTemplate.getCollectionName(Game.class), GameSummaryDto.class)
-                .getMappedResults();
-    }
-
     public List<GameSummaryDto> listLast10GamesInDivision(UUID leagueId, String divisionName) {
         MatchOperation matchOperation = Aggregation.match(Criteria
                                                                   .where(Game.Fields.league + "." + _id)
@@ -456,17 +419,7 @@ public class GameDao {
                 .and(Game.Fields.gender)
                 .in(genders);
 
-        long total = mongoTemplate.count(Query.query(criteria), Game.class);
-
-        MatchOperation matchOperation = Aggregation.match(criteria);
-        SortOperation sortOperation = Aggregation.sort(Sort.Direction.DESC, GameSummaryDto.Fields.scheduledAt);
-        SkipOperation skipOperation = Aggregation.skip((long) pageable.getPageNumber() * (long) pageable.getPageSize());
-        LimitOperation limitOperation = Aggregation.limit(pageable.getPageSize());
-        List<GameSummaryDto> games = mongoTemplate
-                .aggregate(Aggregation.newAggregation(matchOperation, sGameSummaryProjection, sortOperation, skipOperation, limitOperation),
-                           mongoTemplate.getCollectionName(Game.class), GameSummaryDto.class)
-                .getMappedResults();
-        return new PageDto<>(games, pageable, total);
+        return listGameSummaries(criteria, pageable);
     }
 
     public List<GameSummaryDto> listAvailableGames(UUID userId) {
@@ -488,17 +441,7 @@ public class GameDao {
                 .is(GameStatus.COMPLETED)
                 .orOperator(Criteria.where(Game.Fields.createdBy).is(userId), Criteria.where(Game.Fields.refereedBy).is(userId));
 
-        long total = mongoTemplate.count(Query.query(criteria), Game.class);
-
-        MatchOperation matchOperation = Aggregation.match(criteria);
-        SortOperation sortOperation = Aggregation.sort(Sort.Direction.DESC, GameSummaryDto.Fields.scheduledAt);
-        SkipOperation skipOperation = Aggregation.skip((long) pageable.getPageNumber() * (long) pageable.getPageSize());
-        LimitOperation limitOperation = Aggregation.limit(pageable.getPageSize());
-        List<GameSummaryDto> games = mongoTemplate
-                .aggregate(Aggregation.newAggregation(matchOperation, sGameSummaryProjection, sortOperation, skipOperation, limitOperation),
-                           mongoTemplate.getCollectionName(Game.class), GameSummaryDto.class)
-                .getMappedResults();
-        return new PageDto<>(games, pageable, total);
+        return listGameSummaries(criteria, pageable);
     }
 
     public Page<GameSummaryDto> listGamesInLeague(UUID userId,
@@ -519,17 +462,7 @@ public class GameDao {
                 .and(Game.Fields.gender)
                 .in(genders);
 
-        long total = mongoTemplate.count(Query.query(criteria), Game.class);
-
-        MatchOperation matchOperation = Aggregation.match(criteria);
-        SortOperation sortOperation = Aggregation.sort(Sort.Direction.DESC, GameSummaryDto.Fields.scheduledAt);
-        SkipOperation skipOperation = Aggregation.skip((long) pageable.getPageNumber() * (long) pageable.getPageSize());
-        LimitOperation limitOperation = Aggregation.limit(pageable.getPageSize());
-        List<GameSummaryDto> games = mongoTemplate
-                .aggregate(Aggregation.newAggregation(matchOperation, sGameSummaryProjection, sortOperation, skipOperation, limitOperation),
-                           mongoTemplate.getCollectionName(Game.class), GameSummaryDto.class)
-                .getMappedResults();
-        return new PageDto<>(games, pageable, total);
+        return listGameSummaries(criteria, pageable);
     }
 
     public List<String> listDivisionsInLeague(UUID userId, UUID leagueId) {
@@ -558,6 +491,23 @@ public class GameDao {
         return containers.stream().map(DivisionNameContainer::getDivisionName).sorted().collect(Collectors.toList());
     }
 
+    public Stream<Game> streamByLeague_IdAndLeague_DivisionAndStatusOrderByScheduledAtAsc(UUID leagueId,
+                                                                                           String divisionName,
+                                                                                           GameStatus status,
+                                                                                           int batchSize) {
+        Query query = Query
+                .query(Criteria
+                               .where(Game.Fields.league + "." + _id)
+                               .is(leagueId)
+                               .and(Game.Fields.league + "." + Game.SelectedLeague.Fields.division)
+                               .is(divisionName)
+                               .and(Game.Fields.status)
+                               .is(status))
+                .with(Sort.by(Sort.Direction.ASC, Game.Fields.scheduledAt))
+                .cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, Game.class);
+    }
+
     public List<GameScoreDto> findByLeague_IdAndLeague_DivisionAndStatusOrderByScheduledAtAsc(UUID leagueId,
                                                                                               String divisionName,
                                                                                               GameStatus status) {
@@ -600,6 +550,45 @@ public class GameDao {
                 .getMappedResults();
     }
 
+    public Map<UUID, Game> findStatusAndLeagueByIdInAndAllowedUser(Collection<UUID> ids, UUID userId) {
+        Query query = Query.query(Criteria
+                                          .where(_id)
+                                          .in(ids)
+                                          .andOperator(new Criteria().orOperator(Criteria.where(Game.Fields.createdBy).is(userId),
+                                                                                 Criteria.where(Game.Fields.refereedBy).is(userId))));
+        query.fields().include(Game.Fields.status).include(Game.Fields.league);
+        return mongoTemplate.find(query, Game.class).stream().collect(Collectors.toMap(Game::getId, game -> game));
+    }
+
+    public java.util.Set<UUID> findIdsByIdIn(Collection<UUID> ids) {
+        Query query = Query.query(Criteria.where(_id).in(ids));
+        query.fields().include(_id);
+        return mongoTemplate.find(query, Game.class).stream().map(Game::getId).collect(Collectors.toSet());
+    }
+
+    public Optional<GameSummaryDto> findSummaryById(UUID id) {
+        MatchOperation matchOperation = Aggregation.match(Criteria.where(_id).is(id));
+        return Optional.ofNullable(mongoTemplate
+                                           .aggregate(Aggregation.newAggregation(matchOperation, sGameSummaryProjection),
+                                                      mongoTemplate.getCollectionName(Game.class), GameSummaryDto.class)
+                                           .getUniqueMappedResult());
+    }
+
+    public Optional<ResourceVersionDto> findVersionById(UUID id) {
+        Query query = Query.query(Criteria.where(_id).is(id));
+        query.fields().include(Game.Fields.updatedAt);
+        return Optional.ofNullable(mongoTemplate.findOne(query, Game.class)).map(game -> new ResourceVersionDto(game.getUpdatedAt(), 1L));
+    }
+
+    public Optional<Game> findScoreSheetKeyById(UUID id) {
+        Query query = Query.query(Criteria.where(_id).is(id));
+        query
+                .fields()
+                .include(Game.Fields.updatedAt, Game.Fields.scheduledAt, Game.Fields.status,
+                         Game.Fields.homeTeam + "." + Team.Fields.name, Game.Fields.guestTeam + "." + Team.Fields.name);
+        return Optional.ofNullable(mongoTemplate.findOne(query, Game.class));
+    }
+
     public Optional<Game> findById(UUID id) {
         Query query = Query.query(Criteria.where(_id).is(id));
         return Optional.ofNullable(mongoTemplate.findOne(query, Game.class));
@@ -630,6 +619,48 @@ public class GameDao {
         return Optional.ofNullable(mongoTemplate.findOne(query, Game.class));
     }
 
+    public Optional<GameScoreDto> findScoreByIdAndAllowedUserAndStatus(UUID id, UUID userId, GameStatus status) {
+        Query query = Query.query(Criteria
+                                          .where(_id)
+                                          .is(id)
+                                          .and(Game.Fields.status)
+                                          .is(status)
+                                          .andOperator(new Criteria().orOperator(Criteria.where(Game.Fields.createdBy).is(userId),
+                                                                                 Criteria.where(Game.Fields.refereedBy).is(userId))));
+        query
+                .fields()
+                .include(Game.Fields.homeSets)
+                .include(Game.Fields.guestSets)
+                .include(Game.Fields.sets + "." + Set.Fields.homePoints)
+                .include(Game.Fields.sets + "." + Set.Fields.guestPoints)
+                .include(Game.Fields.league + "." + _id)
+                .include(Game.Fields.league + "." + Game.SelectedLeague.Fields.division);
+        return Optional.ofNullable(mongoTemplate.findOne(query, GameScoreDto.class, mongoTemplate.getCollectionName(Game.class)));
+    }
+
+    public Optional<Game> findSetCountersByIdAndAllowedUserAndStatus(UUID id, UUID userId, GameStatus status) {
+        Query query = Query.query(Criteria
+                                          .where(_id)
+                                          .is(id)
+                                          .and(Game.Fields.status)
+                                          .is(status)
+                                          .andOperator(new Criteria().orOperator(Criteria.where(Game.Fields.createdBy).is(userId),
+                                                                                 Criteria.where(Game.Fields.refereedBy).is(userId))));
+        query
+                .fields()
+                .include(Game.Fields.homeSets)
+                .include(Game.Fields.guestSets)
+                .include(Game.Fields.sets + "." + Set.Fields.homePoints)
+                .include(Game.Fields.sets + "." + Set.Fields.guestPoints)
+                .include(Game.Fields.sets + "." + Set.Fields.homeTimeouts)
+                .include(Game.Fields.sets + "." + Set.Fields.guestTimeouts)
+                .include(Game.Fields.sets + "." + Set.Fields.homeCurrentPlayers)
+                .include(Game.Fields.sets + "." + Set.Fields.guestCurrentPlayers)
+                .include(Game.Fields.league + "." + _id)
+                .include(Game.Fields.league + "." + Game.SelectedLeague.Fields.division);
+        return Optional.ofNullable(mongoTemplate.findOne(query, Game.class));
+    }
+
     public boolean existsById(UUID id) {
         Query query = Query.query(Criteria.where(_id).is(id));
         return mongoTemplate.exists(query, Game.class);
@@ -669,6 +700,17 @@ public class GameDao {
         return mongoTemplate.exists(query, Game.class);
     }
 
+    public long countByLeague_IdAndLeague_DivisionAndStatus(UUID leagueId, String divisionName, GameStatus status) {
+        Query query = Query.query(Criteria
+                                          .where(Game.Fields.league + "." + _id)
+                                          .is(leagueId)
+                                          .and(Game.Fields.league + "." + Game.SelectedLeague.Fields.division)
+                                          .is(divisionName)
+                                          .and(Game.Fields.status)
+                                          .is(status));
+        return mongoTemplate.count(query, Game.class);
+    }
+
     public long countByCreatedBy(UUID userId) {
         Query query = Query.query(Criteria.where(Game.Fields.createdBy).is(userId));
         return mongoTemplate.count(query, Game.class);
@@ -688,6 +730,118 @@ public class GameDao {
         return mongoTemplate.count(query, Game.class);
     }
 
+    public BulkUpsertResult bulkUpsert(UUID userId, List<Game> games, java.util.Set<UUID> existingIds) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Game.class);
+
+        for (Game game : games) {
+            if (existingIds.contains(game.getId())) {
+                Query query = Query.query(Criteria
+                                                  .where(_id)
+                                                  .is(game.getId())
+                                                  .and(Game.Fields.status)
+                                                  .ne(GameStatus.COMPLETED)
+                                                  .andOperator(new Criteria().orOperator(Criteria.where(Game.Fields.createdBy).is(userId),
+                                                                                         Criteria.where(Game.Fields.refereedBy).is(userId))));
+                Update update = new Update()
+                        .set(Game.Fields.updatedAt, game.getUpdatedAt())
+                        .set(Game.Fields.status, game.getStatus())
+                        .set(Game.Fields.league, game.getLeague())
+                        .set(Game.Fields.homeTeam, game.getHomeTeam())
+                        .set(Game.Fields.guestTeam, game.getGuestTeam())
+                        .set(Game.Fields.homeSets, game.getHomeSets())
+                        .set(Game.Fields.guestSets, game.getGuestSets())
+                        .set(Game.Fields.sets, game.getSets())
+                        .set(Game.Fields.homeCards, game.getHomeCards())
+                        .set(Game.Fields.guestCards, game.getGuestCards())
+                        .set(Game.Fields.rules, game.getRules())
+                        .set(Game.Fields.score, game.getScore())
+                        .set(Game.Fields.startTime, game.getStartTime())
+                        .set(Game.Fields.endTime, game.getEndTime())
+                        .set(Game.Fields.referee1, game.getReferee1())
+                        .set(Game.Fields.referee2, game.getReferee2())
+                        .set(Game.Fields.scorer, game.getScorer())
+                        .set(Game.Fields.searchTokens, computeSearchTokens(game));
+                bulkOperations.updateOne(query, update);
+            } else {
+                game.setSearchTokens(computeSearchTokens(game));
+                bulkOperations.insert(game);
+            }
+        }
+
+        Map<UUID, String> errors = new HashMap<>();
+        java.util.Set<UUID> unmatchedIds = new HashSet<>();
+
+        if (!games.isEmpty()) {
+            int matchedCount;
+
+            try {
+                matchedCount = bulkOperations.execute().getMatchedCount();
+            } catch (BulkOperationException e) {
+                e.getErrors().forEach(error -> errors.put(games.get(error.getIndex()).getId(), error.getMessage()));
+                matchedCount = e.getResult().getMatchedCount();
+            }
+
+            Map<UUID, Game> updatedGames = games
+                    .stream()
+                    .filter(game -> existingIds.contains(game.getId()) && !errors.containsKey(game.getId()))
+                    .collect(Collectors.toMap(Game::getId, game -> game));
+
+            if (matchedCount < updatedGames.size()) {
+                unmatchedIds.addAll(findUnmatchedIds(updatedGames));
+            }
+        }
+
+        return new BulkUpsertResult(errors, unmatchedIds);
+    }
+
+    private java.util.Set<UUID> findUnmatchedIds(Map<UUID, Game> updatedGames) {
+        Query query = Query.query(Criteria.where(_id).in(updatedGames.keySet()));
+        query.fields().include(Game.Fields.updatedAt).include(Game.Fields.status);
+        Map<UUID, Game> savedGames = mongoTemplate
+                .find(query, Game.class)
+                .stream()
+                .collect(Collectors.toMap(Game::getId, game -> game));
+
+        return updatedGames
+                .values()
+                .stream()
+                .filter(game -> {
+                    Game savedGame = savedGames.get(game.getId());
+                    return savedGame == null || savedGame.getUpdatedAt() != game.getUpdatedAt() || !game
+                            .getStatus()
+                            .equals(savedGame.getStatus());
+                })
+                .map(Game::getId)
+                .collect(Collectors.toSet());
+    }
+
+    public List<UUID> findLeagueIdsByCreatedByAndTeam(UUID userId, UUID teamId) {
+        Query query = Query.query(Criteria
+                                          .where(Game.Fields.createdBy)
+                                          .is(userId)
+                                          .and(Game.Fields.league + "." + _id)
+                                          .exists(true)
+                                          .orOperator(Criteria.where(Game.Fields.homeTeam + "." + _id).is(teamId),
+                                                      Criteria.where(Game.Fields.guestTeam + "." + _id).is(teamId)));
+        return mongoTemplate.findDistinct(query, Game.Fields.league + "." + _id, Game.class, UUID.class);
+    }
+
+    public List<UUID> findLeagueIdsByRefereedBy(UUID userId) {
+        Query query = Query.query(Criteria.where(Game.Fields.refereedBy).is(userId).and(Game.Fields.league + "." + _id).exists(true));
+        return mongoTemplate.findDistinct(query, Game.Fields.league + "." + _id, Game.class, UUID.class);
+    }
+
+    public List<UUID> findLeagueIdsByCreatedByAndStatus(UUID userId, GameStatus status) {
+        Query query = Query.query(Criteria
+                                          .where(Game.Fields.createdBy)
+                                          .is(userId)
+                                          .and(Game.Fields.status)
+                                          .is(status)
+                                          .and(Game.Fields.league + "." + _id)
+                                          .exists(true));
+        return mongoTemplate.findDistinct(query, Game.Fields.league + "." + _id, Game.class, UUID.class);
+    }
+
     public void deleteByCreatedByAndStatus(UUID userId, GameStatus status) {
         Query query = Query.query(Criteria.where(Game.Fields.createdBy).is(userId).and(Game.Fields.status).is(status));
         mongoTemplate.remove(query, Game.class);
@@ -704,14 +858,20 @@ public class GameDao {
         mongoTemplate.remove(query, Game.class);
     }
 
-    public void deleteByIdAndCreatedBy(UUID id, UUID userId) {
+    public Optional<Game> findAndRemoveByIdAndCreatedBy(UUID id, UUID userId) {
         Query query = Query.query(Criteria.where(_id).is(id).and(Game.Fields.createdBy).is(userId));
-        mongoTemplate.remove(query, Game.class);
+        return Optional.ofNullable(mongoTemplate.findAndRemove(query, Game.class));
     }
 
-    public void deleteByScheduledAtLessThanAndStatus(long scheduledAt, GameStatus status) {
-        Query query = Query.query(Criteria.where(Game.Fields.scheduledAt).lt(scheduledAt).and(Game.Fields.status).is(status));
-        mongoTemplate.remove(query, Game.class);
+    public List<Game> findByScheduledAtLessThanAndStatus(long scheduledAt, GameStatus status, int limit) {
+        Query query = Query.query(Criteria.where(Game.Fields.status).is(status).and(Game.Fields.scheduledAt).lt(scheduledAt)).limit(limit);
+        query.fields().include(Game.Fields.createdBy, Game.Fields.league);
+        return mongoTemplate.find(query, Game.class);
+    }
+
+    public long deleteByIdInAndScheduledAtLessThanAndStatus(Collection<UUID> ids, long scheduledAt, GameStatus status) {
+        Query query = Query.query(Criteria.where(_id).in(ids).and(Game.Fields.scheduledAt).lt(scheduledAt).and(Game.Fields.status).is(status));
+        return mongoTemplate.remove(query, Game.class).getDeletedCount();
     }
 
     public boolean updateReferee(UUID id, UUID refereedBy, String refereeName, long updatedAt) {
@@ -721,16 +881,232 @@ public class GameDao {
                 .set(Game.Fields.refereeName, refereeName)
                 .set(Game.Fields.updatedAt, updatedAt);
         UpdateResult updateResult = mongoTemplate.updateFirst(query, update, Game.class);
+        updateSearchTokens(Criteria.where(_id).is(id));
         return updateResult.getModifiedCount() > 0;
     }
 
+    public boolean updateSet(UUID id, UUID userId, int setIndex, Set set, String score, long updatedAt) {
+        String setField = Game.Fields.sets + "." + setIndex;
+        Query query = Query.query(Criteria
+                                          .where(_id)
+                                          .is(id)
+                                          .and(Game.Fields.status)
+                                          .is(GameStatus.LIVE)
+                                          .and(setField)
+                                          .exists(true)
+                                          .andOperator(new Criteria().orOperator(Criteria.where(Game.Fields.createdBy).is(userId),
+                                                                                 Criteria.where(Game.Fields.refereedBy).is(userId))));
+        Update update = new Update().set(setField, set).set(Game.Fields.score, score).set(Game.Fields.updatedAt, updatedAt);
+        UpdateResult updateResult = mongoTemplate.updateFirst(query, update, Game.class);
+        return updateResult.getMatchedCount() > 0;
+    }
+
+    public boolean addRallyEvent(UUID id, UUID userId, int setIndex, Set savedSet, RallyEventDto event, String score, long updatedAt) {
+        String setField = Game.Fields.sets + "." + setIndex;
+        boolean home = TeamType.HOME.equals(event.teamType());
+        Criteria criteria = Criteria
+                .where(_id)
+                .is(id)
+                .and(Game.Fields.status)
+                .is(GameStatus.LIVE)
+                .and(setField + "." + Set.Fields.homePoints)
+                .is(savedSet.getHomePoints())
+                .and(setField + "." + Set.Fields.guestPoints)
+                .is(savedSet.getGuestPoints())
+                .andOperator(new Criteria().orOperator(Criteria.where(Game.Fields.createdBy).is(userId),
+                                                       Criteria.where(Game.Fields.refereedBy).is(userId)));
+        Update update = new Update().set(Game.Fields.score, score).set(Game.Fields.updatedAt, updatedAt);
+
+        switch (event.type()) {
+            case POINT -> {
+                String teamLetter = home ? "H" : "G";
+                update
+                        .inc(setField + "." + (home ? Set.Fields.homePoints : Set.Fields.guestPoints), 1)
+                        .push(setField + "." + Set.Fields.ladder, teamLetter)
+                        .set(setField + "." + Set.Fields.serving, teamLetter);
+            }
+            case TIMEOUT -> {
+                String timeoutsField = setField + "." + (home ? Set.Fields.homeTimeouts : Set.Fields.guestTimeouts);
+                Set.Timeout timeout = new Set.Timeout();
+                timeout.setHomePoints(savedSet.getHomePoints());
+                timeout.setGuestPoints(savedSet.getGuestPoints());
+                criteria.and(timeoutsField).gt(0);
+                update
+                        .inc(timeoutsField, -1)
+                        .push(setField + "." + (home ? Set.Fields.homeCalledTimeouts : Set.Fields.guestCalledTimeouts), timeout);
+            }
+            case SUBSTITUTION -> {
+                String courtField = setField + "." + (home ? Set.Fields.homeCurrentPlayers : Set.Fields.guestCurrentPlayers) + ".p" + savedSet
+                        .getCurrentPlayers(event.teamType())
+                        .getPosition(event.playerOut());
+                Set.Substitution substitution = new Set.Substitution();
+                substitution.setPlayerIn(event.playerIn());
+                substitution.setPlayerOut(event.playerOut());
+                substitution.setHomePoints(savedSet.getHomePoints());
+                substitution.setGuestPoints(savedSet.getGuestPoints());
+                criteria.and(courtField).is(event.playerOut());
+                update
+                        .set(courtField, event.playerIn())
+                        .push(setField + "." + (home ? Set.Fields.homeSubstitutions : Set.Fields.guestSubstitutions), substitution);
+            }
+            case SANCTION -> {
+                Game.Sanction sanction = new Game.Sanction();
+                sanction.setCard(event.card());
+                sanction.setNum(event.num());
+                sanction.setSet(setIndex);
+                sanction.setHomePoints(savedSet.getHomePoints());
+                sanction.setGuestPoints(savedSet.getGuestPoints());
+                update.push(home ? Game.Fields.homeCards : Game.Fields.guestCards, sanction);
+            }
+        }
+
+        UpdateResult updateResult = mongoTemplate.updateFirst(Query.query(criteria), update, Game.class);
+        return updateResult.getMatchedCount() > 0;
+    }
+
     public boolean updateUserPseudo(UUID id, String pseudo) {
         Query query = new Query(Criteria.where(Game.Fields.refereedBy).is(id));
-        Update update = new Update().set(Game.Fields.refereeName, pseudo);
+        Update update = new Update().set(Game.Fields.refereeName, pseudo).set(Game.Fields.updatedAt, Instant.now().toEpochMilli());
         UpdateResult updateResult = mongoTemplate.updateMulti(query, update, Game.class);
+        updateSearchTokens(Criteria.where(Game.Fields.refereedBy).is(id));
         return (updateResult.getMatchedCount() > 0 && updateResult.getModifiedCount() > 0) || updateResult.getMatchedCount() == 0;
     }
 
+    public Subscription watchGames(MessageListener<ChangeStreamDocument<Document>, Game> listener, ErrorHandler errorHandler) {
+        ChangeStreamRequest<Game> request = ChangeStreamRequest
+                .builder(listener)
+                .collection(mongoTemplate.getCollectionName(Game.class))
+                .fullDocumentLookup(FullDocument.UPDATE_LOOKUP)
+                .build();
+        return messageListenerContainer.register(request, Game.class, errorHandler);
+    }
+
+    private Page<GameSummaryDto> listGameSummaries(Criteria criteria, Pageable pageable) {
+        SortOperation sortOperation = Aggregation.sort(Sort.Direction.DESC, Game.Fields.scheduledAt, _id);
+        PageCursor cursor = DaoUtils.getCursor(pageable);
+
+        if (cursor != null) {
+            Criteria seekCriteria = new Criteria().orOperator(Criteria.where(Game.Fields.scheduledAt).lt(cursor.scheduledAt()),
+                                                              Criteria
+                                                                      .where(Game.Fields.scheduledAt)
+                                                                      .is(cursor.scheduledAt())
+                                                                      .and(_id)
+                                                                      .lt(cursor.id()));
+            MatchOperation matchOperation = Aggregation.match(new Criteria().andOperator(criteria, seekCriteria));
+            return listNextGameSummaries(Aggregation.newAggregation(matchOperation, sortOperation,
+                                                                    Aggregation.limit(pageable.getPageSize() + 1L),
+                                                                    sGameSummaryProjection), true, pageable);
+        }
+
+        return listGameSummaries(Aggregation.match(criteria), List.of(sortOperation), true, pageable);
+    }
+
+    private Page<GameSummaryDto> listGameSummaries(MatchOperation matchOperation,
+                                                   List<AggregationOperation> orderOperations,
+                                                   boolean seekable,
+                                                   Pageable pageable) {
+        List<AggregationOperation> operations = new ArrayList<>();
+        operations.add(matchOperation);
+        operations.addAll(orderOperations);
+        SkipOperation skipOperation = Aggregation.skip(pageable.getOffset());
+
+        if (DaoUtils.isTotalRequested(pageable)) {
+            operations.add(Aggregation
+                                   .facet(skipOperation, Aggregation.limit(pageable.getPageSize()), sGameSummaryProjection)
+                                   .as(GamePageContainer.Fields.games)
+                                   .and(Aggregation.count().as(TotalContainer.Fields.total))
+                                   .as(GamePageContainer.Fields.totals));
+            GamePageContainer container = mongoTemplate
+                    .aggregate(Aggregation.newAggregation(operations), mongoTemplate.getCollectionName(Game.class), GamePageContainer.class)
+                    .getUniqueMappedResult();
+            List<GameSummaryDto> games = container == null ? List.of() : container.getGames();
+            long total = container == null || container.getTotals().isEmpty() ? 0L : container.getTotals().get(0).getTotal();
+            PageDto<GameSummaryDto> page = new PageDto<>(games, pageable, total);
+            return seekable && page.hasNext() ? new PageDto<>(games, pageable, total, computeNextCursor(games)) : page;
+        } else {
+            operations.add(skipOperation);
+            operations.add(Aggregation.limit(pageable.getPageSize() + 1L));
+            operations.add(sGameSummaryProjection);
+            return listNextGameSummaries(Aggregation.newAggregation(operations), seekable, pageable);
+        }
+    }
+
+    private Page<GameSummaryDto> listNextGameSummaries(Aggregation aggregation, boolean seekable, Pageable pageable) {
+        List<GameSummaryDto> games = mongoTemplate
+                .aggregate(aggregation, mongoTemplate.getCollectionName(Game.class), GameSummaryDto.class)
+                .getMappedResults();
+        boolean hasNext = games.size() > pageable.getPageSize();
+
+        if (hasNext) {
+            games = games.subList(0, pageable.getPageSize());
+            return new PageDto<>(games, pageable, true, seekable ? computeNextCursor(games) : null);
+        } else {
+            return new PageDto<>(games, pageable, false);
+        }
+    }
+
+    public void updateMissingSearchTokens() {
+        updateSearchTokens(Criteria.where(Game.Fields.searchTokens).exists(false));
+    }
+
+    void updateSearchTokens(Criteria criteria) {
+        Query query = Query.query(criteria);
+        query.fields().include(sSearchedFields.toArray(String[]::new));
+        List<Game> games = new ArrayList<>();
+
+        try (Stream<Game> stream = mongoTemplate.stream(query, Game.class)) {
+            stream.forEach(game -> {
+                games.add(game);
+
+                if (games.size() == sSearchTokensBatchSize) {
+                    bulkUpdateSearchTokens(games);
+                    games.clear();
+                }
+            });
+        }
+
+        bulkUpdateSearchTokens(games);
+    }
+
+    private void bulkUpdateSearchTokens(List<Game> games) {
+        if (!games.isEmpty()) {
+            BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Game.class);
+            games.forEach(game -> bulkOperations.updateOne(Query.query(Criteria.where(_id).is(game.getId())),
+                                                           new Update().set(Game.Fields.searchTokens, computeSearchTokens(game))));
+            bulkOperations.execute();
+        }
+    }
+
+    private List<String> computeSearchTokens(Game game) {
+        return DaoUtils.computeTrigrams(game.getHomeTeam() == null ? null : game.getHomeTeam().getName(),
+                                        game.getGuestTeam() == null ? null : game.getGuestTeam().getName(),
+                                        game.getLeague() == null ? null : game.getLeague().getName(), game.getRefereeName());
+    }
+
+    private String computeNextCursor(List<GameSummaryDto> games) {
+        GameSummaryDto lastGame = games.get(games.size() - 1);
+        return new PageCursor(lastGame.getScheduledAt(), lastGame.getId()).encode();
+    }
+
+    public record BulkUpsertResult(Map<UUID, String> errors, java.util.Set<UUID> unmatchedIds) {}
+
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    @FieldNameConstants
+    private static class GamePageContainer {
+        private List<GameSummaryDto> games;
+        private List<TotalContainer> totals;
+    }
+
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    @FieldNameConstants
+    private static class TotalContainer {
+        private long total;
+    }
+
     @NoArgsConstructor
     @Getter
     @Setter
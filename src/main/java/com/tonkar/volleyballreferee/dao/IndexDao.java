@@ -0,0 +1,154 @@
+package com.tonkar.volleyballreferee.dao;
+
+import com.tonkar.volleyballreferee.dto.IndexStatsDto;
+import com.tonkar.volleyballreferee.entity.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+import static com.tonkar.volleyballreferee.dao.DaoUtils._id;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class IndexDao {
+
+    private final static List<Index> sGameIndexes = List.of(new Index()
+                                                                    .on(Game.Fields.createdBy, Sort.Direction.ASC)
+                                                                    .on(Game.Fields.status, Sort.Direction.ASC)
+                                                                    .on(Game.Fields.scheduledAt, Sort.Direction.DESC)
+                                                                    .on(_id, Sort.Direction.DESC)
+                                                                    .named("createdBy_status_scheduledAt")
+                                                                    .background(),
+                                                            new Index()
+                                                                    .on(Game.Fields.refereedBy, Sort.Direction.ASC)
+                                                                    .on(Game.Fields.status, Sort.Direction.ASC)
+                                                                    .on(Game.Fields.scheduledAt, Sort.Direction.DESC)
+                                                                    .on(_id, Sort.Direction.DESC)
+                                                                    .named("refereedBy_status_scheduledAt")
+                                                                    .background(),
+                                                            new Index()
+                                                                    .on(Game.Fields.league + "." + _id, Sort.Direction.ASC)
+                                                                    .on(Game.Fields.status, Sort.Direction.ASC)
+                                                                    .on(Game.Fields.scheduledAt, Sort.Direction.DESC)
+                                                                    .on(_id, Sort.Direction.DESC)
+                                                                    .named("league_status_scheduledAt")
+                                                                    .background(),
+                                                            new Index()
+                                                                    .on(Game.Fields.league + "." + _id, Sort.Direction.ASC)
+                                                                    .on(Game.Fields.league + "." + Game.SelectedLeague.Fields.division,
+                                                                        Sort.Direction.ASC)
+                                                                    .on(Game.Fields.status, Sort.Direction.ASC)
+                                                                    .on(Game.Fields.scheduledAt, Sort.Direction.DESC)
+                                                                    .on(_id, Sort.Direction.DESC)
+                                                                    .named("league_division_status_scheduledAt")
+                                                                    .background(),
+                                                            new Index()
+                                                                    .on(Game.Fields.homeTeam + "." + _id, Sort.Direction.ASC)
+                                                                    .on(Game.Fields.status, Sort.Direction.ASC)
+                                                                    .named("homeTeam_status")
+                                                                    .background(),
+                                                            new Index()
+                                                                    .on(Game.Fields.guestTeam + "." + _id, Sort.Direction.ASC)
+                                                                    .on(Game.Fields.status, Sort.Direction.ASC)
+                                                                    .named("guestTeam_status")
+                                                                    .background(),
+                                                            new Index()
+                                                                    .on(Game.Fields.status, Sort.Direction.ASC)
+                                                                    .on(Game.Fields.scheduledAt, Sort.Direction.DESC)
+                                                                    .on(_id, Sort.Direction.DESC)
+                                                                    .named("status_scheduledAt")
+                                                                    .background(),
+                                                            new Index()
+                                                                    .on(Game.Fields.searchTokens, Sort.Direction.ASC)
+                                                                    .named("searchTokens")
+                                                                    .background());
+
+    private final static List<Index> sTeamIndexes = List.of(new Index()
+                                                                    .on(Team.Fields.createdBy, Sort.Direction.ASC)
+                                                                    .on(Team.Fields.kind, Sort.Direction.ASC)
+                                                                    .on(Team.Fields.gender, Sort.Direction.ASC)
+                                                                    .on(Team.Fields.name, Sort.Direction.ASC)
+                                                                    .named("createdBy_kind_gender_name")
+                                                                    .background());
+
+    private final static List<Index> sRulesIndexes = List.of(new Index()
+                                                                     .on(Rules.Fields.createdBy, Sort.Direction.ASC)
+                                                                     .on(Rules.Fields.kind, Sort.Direction.ASC)
+                                                                     .on(Rules.Fields.name, Sort.Direction.ASC)
+                                                                     .named("createdBy_kind_name")
+                                                                     .background());
+
+    private final static List<Index> sLeagueIndexes = List.of(new Index()
+                                                                      .on(League.Fields.createdBy, Sort.Direction.ASC)
+                                                                      .on(League.Fields.kind, Sort.Direction.ASC)
+                                                                      .on(League.Fields.name, Sort.Direction.ASC)
+                                                                      .named("createdBy_kind_name")
+                                                                      .background());
+
+    private final static List<Index> sUserIndexes = List.of(new Index()
+                                                                    .on(User.Fields.pseudo, Sort.Direction.ASC)
+                                                                    .named("pseudo")
+                                                                    .background(),
+                                                            new Index()
+                                                                    .on(User.Fields.friends + "." + User.Friend.Fields.id, Sort.Direction.ASC)
+                                                                    .named("friends_id")
+                                                                    .background());
+
+    private final static List<Index> sFriendRequestIndexes = List.of(new Index()
+                                                                             .on(FriendRequest.Fields.receiverId, Sort.Direction.ASC)
+                                                                             .on(FriendRequest.Fields.senderId, Sort.Direction.ASC)
+                                                                             .named("receiverId_senderId")
+                                                                             .background(),
+                                                                     new Index()
+                                                                             .on(FriendRequest.Fields.senderId, Sort.Direction.ASC)
+                                                                             .named("senderId")
+                                                                             .background());
+
+    private final static Map<Class<?>, List<Index>> sIndexes = Map.of(Game.class, sGameIndexes, Team.class, sTeamIndexes, Rules.class,
+                                                                      sRulesIndexes, League.class, sLeagueIndexes, User.class,
+                                                                      sUserIndexes, FriendRequest.class, sFriendRequestIndexes);
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void ensureIndexes() {
+        sIndexes.forEach((entityClass, indexes) -> indexes.forEach(index -> {
+            try {
+                mongoTemplate.indexOps(entityClass).createIndex(index);
+            } catch (DataAccessException e) {
+                log.warn("Could not ensure index {} on collection {}", index.getIndexOptions().get("name"),
+                         mongoTemplate.getCollectionName(entityClass), e);
+            }
+        }));
+    }
+
+    public List<IndexStatsDto> listIndexStats() {
+        List<IndexStatsDto> indexStats = new ArrayList<>();
+
+        sIndexes.keySet().stream().map(mongoTemplate::getCollectionName).sorted().forEach(collectionName -> mongoTemplate
+                .getCollection(collectionName)
+                .aggregate(List.of(new Document("$indexStats", new Document())))
+                .forEach(document -> {
+                    Document accesses = document.get("accesses", Document.class);
+                    Date since = accesses.getDate("since");
+                    indexStats.add(new IndexStatsDto(collectionName, document.getString("name"), document.get("key", Document.class),
+                                                     accesses.get("ops", Number.class).longValue(),
+                                                     since == null ? 0L : since.getTime()));
+                }));
+
+        return indexStats;
+    }
+}
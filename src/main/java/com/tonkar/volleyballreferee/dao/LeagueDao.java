@@ -1,6 +1,6 @@
 package com.tonkar.volleyballreferee.dao;
 
-import com.tonkar.volleyballreferee.dto.LeagueSummaryDto;
+import com.tonkar.volleyballreferee.dto.*;
 import com.tonkar.volleyballreferee.entity.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
@@ -66,6 +66,14 @@ public class LeagueDao {
         return Optional.ofNullable(mongoTemplate.findOne(query, League.class));
     }
 
+    public Optional<ResourceVersionDto> findVersionById(UUID id) {
+        Query query = Query.query(Criteria.where(_id).is(id));
+        query.fields().include(League.Fields.updatedAt);
+        return Optional
+                .ofNullable(mongoTemplate.findOne(query, League.class))
+                .map(league -> new ResourceVersionDto(league.getUpdatedAt(), 1L));
+    }
+
     public Optional<League> findByIdAndCreatedBy(UUID id, UUID userId) {
         Query query = Query.query(Criteria.where(_id).is(id).and(League.Fields.createdBy).is(userId));
         return Optional.ofNullable(mongoTemplate.findOne(query, League.class));
@@ -9,6 +9,7 @@ import org.springframework.data.mongodb.core.aggregation.*;
 import org.springframework.data.mongodb.core.query.*;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Stream;
 
@@ -71,7 +72,8 @@ public class RulesDao {
                                           .is(rules.getId())
                                           .and(Game.Fields.rules + "." + Rules.Fields.createdBy)
                                           .is(userId));
-        mongoTemplate.updateMulti(query, Update.update(Game.Fields.rules, rules), mongoTemplate.getCollectionName(Game.class));
+        Update update = Update.update(Game.Fields.rules, rules).set(Game.Fields.updatedAt, Instant.now().toEpochMilli());
+        mongoTemplate.updateMulti(query, update, mongoTemplate.getCollectionName(Game.class));
     }
 
     public Stream<RulesSummaryDto> findByCreatedByOrderByNameAsc(UUID userId) {
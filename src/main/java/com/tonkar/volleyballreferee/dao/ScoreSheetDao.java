@@ -0,0 +1,80 @@
+package com.tonkar.volleyballreferee.dao;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.*;
+import org.springframework.data.mongodb.gridfs.*;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Repository;
+
+import java.io.*;
+import java.util.*;
+
+@Repository
+public class ScoreSheetDao {
+
+    public static final String DIGEST         = "digest";
+    public static final String CONTENT_LENGTH = "contentLength";
+
+    private static final String sBucket    = "scoreSheets";
+    private static final String sCreatedBy = "createdBy";
+    private static final String sLeagueId  = "leagueId";
+
+    private final GridFsTemplate gridFsTemplate;
+
+    public ScoreSheetDao(MongoTemplate mongoTemplate) {
+        this.gridFsTemplate = new GridFsTemplate(mongoTemplate.getMongoDatabaseFactory(), mongoTemplate.getConverter(), sBucket);
+    }
+
+    public Optional<GridFSFile> findByGameIdAndUpdatedAt(UUID gameId, long updatedAt) {
+        Query query = Query.query(GridFsCriteria.whereFilename().is(computeFilename(gameId, updatedAt)));
+        return Optional.ofNullable(gridFsTemplate.find(query).first());
+    }
+
+    public InputStream openStream(GridFSFile file) throws IOException {
+        return gridFsTemplate.getResource(file).getInputStream();
+    }
+
+    public void insert(UUID gameId,
+                       long updatedAt,
+                       UUID createdBy,
+                       UUID leagueId,
+                       String digest,
+                       long contentLength,
+                       byte[] gzippedContent) {
+        String filename = computeFilename(gameId, updatedAt);
+        Document metadata = new Document(DIGEST, digest).append(CONTENT_LENGTH, contentLength).append(sCreatedBy, createdBy.toString());
+
+        if (leagueId != null) {
+            metadata.append(sLeagueId, leagueId.toString());
+        }
+
+        gridFsTemplate.store(new ByteArrayInputStream(gzippedContent), filename, MediaType.TEXT_HTML_VALUE, metadata);
+        gridFsTemplate.delete(Query.query(GridFsCriteria.whereFilename().regex(filenamePrefix(gameId)).ne(filename)));
+    }
+
+    public void deleteByGameId(UUID gameId) {
+        gridFsTemplate.delete(Query.query(GridFsCriteria.whereFilename().regex(filenamePrefix(gameId))));
+    }
+
+    public void deleteByCreatedBy(UUID userId) {
+        gridFsTemplate.delete(Query.query(GridFsCriteria.whereMetaData(sCreatedBy).is(userId.toString())));
+    }
+
+    public void deleteByCreatedByAndLeagueId(UUID userId, UUID leagueId) {
+        gridFsTemplate.delete(Query.query(GridFsCriteria
+                                                  .whereMetaData(sCreatedBy)
+                                                  .is(userId.toString())
+                                                  .and("metadata." + sLeagueId)
+                                                  .is(leagueId.toString())));
+    }
+
+    private String computeFilename(UUID gameId, long updatedAt) {
+        return String.format("%s/%d", gameId, updatedAt);
+    }
+
+    private String filenamePrefix(UUID gameId) {
+        return String.format("^%s/", gameId);
+    }
+}
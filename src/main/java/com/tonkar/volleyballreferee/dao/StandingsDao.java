@@ -0,0 +1,41 @@
+package com.tonkar.volleyballreferee.dao;
+
+import com.tonkar.volleyballreferee.entity.Standings;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.*;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+import static com.tonkar.volleyballreferee.dao.DaoUtils._id;
+
+@Repository
+@RequiredArgsConstructor
+public class StandingsDao {
+
+    private final MongoTemplate mongoTemplate;
+
+    public void insert(Standings standings) {
+        mongoTemplate.insert(standings);
+    }
+
+    public void save(Standings standings) {
+        mongoTemplate.save(standings);
+    }
+
+    public Optional<Standings> findById(String id) {
+        Query query = Query.query(Criteria.where(_id).is(id));
+        return Optional.ofNullable(mongoTemplate.findOne(query, Standings.class));
+    }
+
+    public void deleteById(String id) {
+        Query query = Query.query(Criteria.where(_id).is(id));
+        mongoTemplate.remove(query, Standings.class);
+    }
+
+    public void deleteByLeagueIdIn(Collection<UUID> leagueIds) {
+        Query query = Query.query(Criteria.where(Standings.Fields.leagueId).in(leagueIds));
+        mongoTemplate.remove(query, Standings.class);
+    }
+}
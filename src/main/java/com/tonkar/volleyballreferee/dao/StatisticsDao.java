@@ -3,71 +3,170 @@ package com.tonkar.volleyballreferee.dao;
 import com.tonkar.volleyballreferee.dto.StatisticsGroupDto;
 import com.tonkar.volleyballreferee.entity.*;
 import lombok.RequiredArgsConstructor;
-import lombok.experimental.FieldNameConstants;
-import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.*;
 import org.springframework.data.mongodb.core.aggregation.*;
-import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.*;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.*;
+import java.util.function.*;
+
+import static com.tonkar.volleyballreferee.dao.DaoUtils._id;
 
 @Repository
 @RequiredArgsConstructor
 public class StatisticsDao {
 
-    private static final ProjectionOperation sStatisticsProjection = Aggregation.project("kind");
+    private static final String CREATED_BY = "createdBy";
+    private static final String KIND       = "kind";
+    private static final String COUNT      = "count";
 
-    private static final GroupOperation sStatisticsGroup = Aggregation.group("kind").first("kind").as("kind").count().as("count");
+    private static final GroupOperation sStatisticsGroup = Aggregation.group(KIND).first(KIND).as(KIND).count().as(COUNT);
 
     private final MongoTemplate mongoTemplate;
 
+    public boolean exists() {
+        return mongoTemplate.exists(new Query(), StatisticsCounter.class);
+    }
+
     public StatisticsGroupDto findGlobalStatistics() {
-        List<StatisticsGroupDto.CountDto> gameStatistics = mongoTemplate
-                .aggregate(Aggregation.newAggregation(sStatisticsProjection, sStatisticsGroup), mongoTemplate.getCollectionName(Game.class),
-                           StatisticsGroupDto.CountDto.class)
-                .getMappedResults();
+        List<StatisticsCounter> globalCounters = findCounters(null);
+        return new StatisticsGroupDto(toStatistics(globalCounters));
+    }
 
-        List<StatisticsGroupDto.CountDto> teamStatistics = mongoTemplate
-                .aggregate(Aggregation.newAggregation(sStatisticsProjection, sStatisticsGroup), mongoTemplate.getCollectionName(Team.class),
-                           StatisticsGroupDto.CountDto.class)
-                .getMappedResults();
+    public StatisticsGroupDto findUserStatistics(UUID userId) {
+        List<StatisticsCounter> globalCounters = findCounters(null);
+        List<StatisticsCounter> userCounters = findCounters(userId);
+        return new StatisticsGroupDto(toStatistics(globalCounters), toStatistics(userCounters));
+    }
 
-        return new StatisticsGroupDto(new StatisticsGroupDto.StatisticsDto(gameStatistics, teamStatistics));
+    public void incrementGames(UUID userId, GameType kind, long delta) {
+        increment(StatisticsCounter.Fields.games, userId, kind, delta);
     }
 
-    public StatisticsGroupDto findUserStatistics(UUID userId) {
-        MatchOperation matchOperation = Aggregation.match(Criteria.where("createdBy").is(userId));
-
-        FacetOperation gameFacetOperation = Aggregation
-                .facet(sStatisticsProjection, sStatisticsGroup)
-                .as(FacetStatistics.Fields.globalStatistics)
-                .and(matchOperation, sStatisticsProjection, sStatisticsGroup)
-                .as(FacetStatistics.Fields.userStatistics);
-
-        FacetOperation teamFacetOperation = Aggregation
-                .facet(sStatisticsProjection, sStatisticsGroup)
-                .as(FacetStatistics.Fields.globalStatistics)
-                .and(matchOperation, sStatisticsProjection, sStatisticsGroup)
-                .as(FacetStatistics.Fields.userStatistics);
-
-        FacetStatistics gameFacetStatistics = mongoTemplate
-                .aggregate(Aggregation.newAggregation(gameFacetOperation), mongoTemplate.getCollectionName(Game.class),
-                           FacetStatistics.class)
-                .getUniqueMappedResult();
-
-        FacetStatistics teamFacetStatistics = mongoTemplate
-                .aggregate(Aggregation.newAggregation(teamFacetOperation), mongoTemplate.getCollectionName(Team.class),
-                           FacetStatistics.class)
-                .getUniqueMappedResult();
-
-        assert gameFacetStatistics != null;
-        assert teamFacetStatistics != null;
-
-        return new StatisticsGroupDto(
-                new StatisticsGroupDto.StatisticsDto(gameFacetStatistics.globalStatistics(), teamFacetStatistics.globalStatistics()),
-                new StatisticsGroupDto.StatisticsDto(gameFacetStatistics.userStatistics(), teamFacetStatistics.userStatistics()));
+    public void incrementTeams(UUID userId, GameType kind, long delta) {
+        increment(StatisticsCounter.Fields.teams, userId, kind, delta);
+    }
+
+    public void reconcileUserStatistics(UUID userId) {
+        Map<GameType, Long> games = countByKind(Game.class, userId);
+        Map<GameType, Long> teams = countByKind(Team.class, userId);
+        Map<GameType, StatisticsCounter> userCounters = new EnumMap<>(GameType.class);
+        findCounters(userId).forEach(counter -> userCounters.put(counter.getKind(), counter));
+
+        for (GameType kind : GameType.values()) {
+            StatisticsCounter counter = userCounters.get(kind);
+            long gamesDelta = games.getOrDefault(kind, 0L) - (counter == null ? 0L : counter.getGames());
+            long teamsDelta = teams.getOrDefault(kind, 0L) - (counter == null ? 0L : counter.getTeams());
+
+            if (gamesDelta != 0L || teamsDelta != 0L) {
+                upsertCounters(userId, kind, () -> new Update()
+                        .inc(StatisticsCounter.Fields.games, gamesDelta)
+                        .inc(StatisticsCounter.Fields.teams, teamsDelta)
+                        .set(StatisticsCounter.Fields.updatedAt, Instant.now().toEpochMilli()));
+            }
+        }
+    }
+
+    public void reconcileStatistics() {
+        long reconciledAt = Instant.now().toEpochMilli();
+        Map<String, StatisticsCounter> counters = new HashMap<>();
+
+        countByCreatedByAndKind(Game.class).forEach(count -> {
+            addCount(counters, count.createdBy(), count.kind(), count.count(), StatisticsCounter::getGames, StatisticsCounter::setGames);
+            addCount(counters, null, count.kind(), count.count(), StatisticsCounter::getGames, StatisticsCounter::setGames);
+        });
+        countByCreatedByAndKind(Team.class).forEach(count -> {
+            addCount(counters, count.createdBy(), count.kind(), count.count(), StatisticsCounter::getTeams, StatisticsCounter::setTeams);
+            addCount(counters, null, count.kind(), count.count(), StatisticsCounter::getTeams, StatisticsCounter::setTeams);
+        });
+
+        if (!counters.isEmpty()) {
+            BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatisticsCounter.class);
+            counters.values().forEach(counter -> bulkOperations.upsert(Query.query(Criteria.where(_id).is(counter.getId())), new Update()
+                    .set(StatisticsCounter.Fields.userId, counter.getUserId())
+                    .set(StatisticsCounter.Fields.kind, counter.getKind())
+                    .set(StatisticsCounter.Fields.games, counter.getGames())
+                    .set(StatisticsCounter.Fields.teams, counter.getTeams())
+                    .set(StatisticsCounter.Fields.updatedAt, reconciledAt)));
+            bulkOperations.execute();
+        }
+
+        Query staleQuery = Query.query(Criteria.where(StatisticsCounter.Fields.updatedAt).lt(reconciledAt));
+        mongoTemplate.remove(staleQuery, StatisticsCounter.class);
+    }
+
+    private List<StatisticsCounter> findCounters(UUID userId) {
+        List<String> ids = Arrays.stream(GameType.values()).map(kind -> StatisticsCounter.computeId(userId, kind)).toList();
+        Query query = Query.query(Criteria.where(_id).in(ids)).with(Sort.by(StatisticsCounter.Fields.kind));
+        return mongoTemplate.find(query, StatisticsCounter.class);
+    }
+
+    private StatisticsGroupDto.StatisticsDto toStatistics(List<StatisticsCounter> counters) {
+        return new StatisticsGroupDto.StatisticsDto(toCounts(counters, StatisticsCounter::getGames),
+                                                    toCounts(counters, StatisticsCounter::getTeams));
+    }
+
+    private List<StatisticsGroupDto.CountDto> toCounts(List<StatisticsCounter> counters, ToLongFunction<StatisticsCounter> count) {
+        return counters
+                .stream()
+                .filter(counter -> count.applyAsLong(counter) > 0L)
+                .map(counter -> new StatisticsGroupDto.CountDto(counter.getKind(), count.applyAsLong(counter)))
+                .toList();
+    }
+
+    private void increment(String field, UUID userId, GameType kind, long delta) {
+        upsertCounters(userId, kind,
+                       () -> new Update().inc(field, delta).set(StatisticsCounter.Fields.updatedAt, Instant.now().toEpochMilli()));
+    }
+
+    private void upsertCounters(UUID userId, GameType kind, Supplier<Update> update) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatisticsCounter.class);
+
+        for (UUID counterUserId : Arrays.asList(null, userId)) {
+            bulkOperations.upsert(Query.query(Criteria.where(_id).is(StatisticsCounter.computeId(counterUserId, kind))), update
+                    .get()
+                    .setOnInsert(StatisticsCounter.Fields.userId, counterUserId)
+                    .setOnInsert(StatisticsCounter.Fields.kind, kind));
+        }
+
+        bulkOperations.execute();
+    }
+
+    private Map<GameType, Long> countByKind(Class<?> entityClass, UUID userId) {
+        Aggregation aggregation = Aggregation.newAggregation(Aggregation.match(Criteria.where(CREATED_BY).is(userId)),
+                                                             sStatisticsGroup);
+        Map<GameType, Long> counts = new EnumMap<>(GameType.class);
+        mongoTemplate
+                .aggregate(aggregation, mongoTemplate.getCollectionName(entityClass), StatisticsGroupDto.CountDto.class)
+                .getMappedResults()
+                .forEach(count -> counts.put(count.kind(), count.count()));
+        return counts;
+    }
+
+    private List<UserCountDto> countByCreatedByAndKind(Class<?> entityClass) {
+        Aggregation aggregation = Aggregation.newAggregation(Aggregation.group(CREATED_BY, KIND).count().as(COUNT),
+                                                             Aggregation.project(CREATED_BY, KIND, COUNT).andExclude(_id));
+        return mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(entityClass), UserCountDto.class).getMappedResults();
+    }
+
+    private void addCount(Map<String, StatisticsCounter> counters,
+                          UUID userId,
+                          GameType kind,
+                          long count,
+                          ToLongFunction<StatisticsCounter> getter,
+                          ObjLongConsumer<StatisticsCounter> setter) {
+        StatisticsCounter counter = counters.computeIfAbsent(StatisticsCounter.computeId(userId, kind), id -> {
+            StatisticsCounter newCounter = new StatisticsCounter();
+            newCounter.setId(id);
+            newCounter.setUserId(userId);
+            newCounter.setKind(kind);
+            return newCounter;
+        });
+        setter.accept(counter, getter.applyAsLong(counter) + count);
     }
 
-    @FieldNameConstants
-    private record FacetStatistics(List<StatisticsGroupDto.CountDto> globalStatistics, List<StatisticsGroupDto.CountDto> userStatistics) {}
+    private record UserCountDto(UUID createdBy, GameType kind, long count) {}
 }
@@ -9,6 +9,7 @@ import org.springframework.data.mongodb.core.aggregation.*;
 import org.springframework.data.mongodb.core.query.*;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.*;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -37,6 +38,7 @@ public class TeamDao {
             .as(TeamSummaryDto.Fields.gender);
 
     private final MongoTemplate mongoTemplate;
+    private final GameDao       gameDao;
 
     public void save(Team team) {
         mongoTemplate.save(team);
@@ -89,29 +91,33 @@ public class TeamDao {
     }
 
     public void updateScheduledGamesWithHomeTeam(UUID userId, Team team) {
-        Query query = Query.query(Criteria
-                                          .where(Game.Fields.createdBy)
-                                          .is(userId)
-                                          .and(Game.Fields.status)
-                                          .is(GameStatus.SCHEDULED)
-                                          .and(Game.Fields.homeTeam + "." + _id)
-                                          .is(team.getId())
-                                          .and(Game.Fields.homeTeam + "." + Team.Fields.createdBy)
-                                          .is(userId));
-        mongoTemplate.updateMulti(query, Update.update(Game.Fields.homeTeam, team), mongoTemplate.getCollectionName(Game.class));
+        Criteria criteria = Criteria
+                .where(Game.Fields.createdBy)
+                .is(userId)
+                .and(Game.Fields.status)
+                .is(GameStatus.SCHEDULED)
+                .and(Game.Fields.homeTeam + "." + _id)
+                .is(team.getId())
+                .and(Game.Fields.homeTeam + "." + Team.Fields.createdBy)
+                .is(userId);
+        Update update = Update.update(Game.Fields.homeTeam, team).set(Game.Fields.updatedAt, Instant.now().toEpochMilli());
+        mongoTemplate.updateMulti(Query.query(criteria), update, mongoTemplate.getCollectionName(Game.class));
+        gameDao.updateSearchTokens(criteria);
     }
 
     public void updateScheduledGamesWithGuestTeam(UUID userId, Team team) {
-        Query query = Query.query(Criteria
-                                          .where(Game.Fields.createdBy)
-                                          .is(userId)
-                                          .and(Game.Fields.status)
-                                          .is(GameStatus.SCHEDULED)
-                                          .and(Game.Fields.guestTeam + "." + _id)
-                                          .is(team.getId())
-                                          .and(Game.Fields.guestTeam + "." + Team.Fields.createdBy)
-                                          .is(userId));
-        mongoTemplate.updateMulti(query, Update.update(Game.Fields.guestTeam, team), mongoTemplate.getCollectionName(Game.class));
+        Criteria criteria = Criteria
+                .where(Game.Fields.createdBy)
+                .is(userId)
+                .and(Game.Fields.status)
+                .is(GameStatus.SCHEDULED)
+                .and(Game.Fields.guestTeam + "." + _id)
+                .is(team.getId())
+                .and(Game.Fields.guestTeam + "." + Team.Fields.createdBy)
+                .is(userId);
+        Update update = Update.update(Game.Fields.guestTeam, team).set(Game.Fields.updatedAt, Instant.now().toEpochMilli());
+        mongoTemplate.updateMulti(Query.query(criteria), update, mongoTemplate.getCollectionName(Game.class));
+        gameDao.updateSearchTokens(criteria);
     }
 
     public Stream<TeamSummaryDto> findByCreatedByOrderByNameAsc(UUID userId) {
@@ -154,8 +160,8 @@ public class TeamDao {
         return mongoTemplate.count(query, Team.class);
     }
 
-    public void deleteByIdAndCreatedBy(UUID id, UUID userId) {
+    public Optional<Team> findAndRemoveByIdAndCreatedBy(UUID id, UUID userId) {
         Query query = Query.query(Criteria.where(_id).is(id).and(Team.Fields.createdBy).is(userId));
-        mongoTemplate.remove(query, Team.class);
+        return Optional.ofNullable(mongoTemplate.findAndRemove(query, Team.class));
     }
 }
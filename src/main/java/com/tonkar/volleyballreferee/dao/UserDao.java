@@ -13,6 +13,7 @@ import org.springframework.data.mongodb.core.query.*;
 import org.springframework.stereotype.Repository;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.tonkar.volleyballreferee.dao.DaoUtils._id;
 
@@ -54,11 +55,40 @@ public class UserDao {
         return Optional.ofNullable(mongoTemplate.findOne(query, User.class));
     }
 
+    public java.util.Set<UUID> findIdsByIdIn(Collection<UUID> ids) {
+        Query query = Query.query(Criteria.where(_id).in(ids));
+        query.fields().include(_id);
+        return mongoTemplate.find(query, User.class).stream().map(User::getId).collect(Collectors.toSet());
+    }
+
     public boolean areFriends(UUID id1, UUID id2) {
         Query query = Query.query(Criteria.where("id").is(id1).and(User.Fields.friends + "." + User.Friend.Fields.id).is(id2));
         return mongoTemplate.exists(query, User.class);
     }
 
+    public List<User.Friend> findFriendsById(UUID id) {
+        Query query = Query.query(Criteria.where("id").is(id));
+        query.fields().include(User.Fields.friends);
+        return Optional
+                .ofNullable(mongoTemplate.findOne(query, User.class))
+                .map(User::getFriends)
+                .orElseGet(List::of);
+    }
+
+    public Map<UUID, java.util.Set<UUID>> findFriendIdsByIdIn(Collection<UUID> ids) {
+        Query query = Query.query(Criteria.where("id").in(ids));
+        query.fields().include(User.Fields.friends + "." + User.Friend.Fields.id);
+        Map<UUID, java.util.Set<UUID>> friendIds = new HashMap<>();
+        mongoTemplate
+                .find(query, User.class)
+                .forEach(user -> friendIds.put(user.getId(), user
+                        .getFriends()
+                        .stream()
+                        .map(User.Friend::getId)
+                        .collect(Collectors.toSet())));
+        return friendIds;
+    }
+
     public boolean updateUserSignedIn(UUID userId, long lastLoginAt) {
         Query query = new Query(Criteria.where(_id).is(userId));
         Update update = new Update()
@@ -0,0 +1,3 @@
+package com.tonkar.volleyballreferee.dto;
+
+public record CacheStatsDto(String name, long size, long hits, long misses, long evictions, double hitRate) {}
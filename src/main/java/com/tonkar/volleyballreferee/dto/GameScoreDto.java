@@ -1,6 +1,6 @@
 package com.tonkar.volleyballreferee.dto;
 
-import com.tonkar.volleyballreferee.entity.TeamType;
+import com.tonkar.volleyballreferee.entity.*;
 import lombok.*;
 import lombok.experimental.FieldNameConstants;
 
@@ -19,6 +19,7 @@ public class GameScoreDto {
     private int                 homeSets;
     private int                 guestSets;
     private List<SetSummaryDto> sets;
+    private Game.SelectedLeague league;
 
     public GameScoreDto() {
         this.sets = new ArrayList<>();
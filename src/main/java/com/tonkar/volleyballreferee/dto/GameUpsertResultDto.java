@@ -0,0 +1,7 @@
+package com.tonkar.volleyballreferee.dto;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+
+public record GameUpsertResultDto(UUID id, HttpStatus status, String message) {}
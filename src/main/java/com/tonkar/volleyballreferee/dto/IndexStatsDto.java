@@ -0,0 +1,5 @@
+package com.tonkar.volleyballreferee.dto;
+
+import java.util.Map;
+
+public record IndexStatsDto(String collection, String name, Map<String, Object> key, long ops, long since) {}
@@ -0,0 +1,7 @@
+package com.tonkar.volleyballreferee.dto;
+
+import com.tonkar.volleyballreferee.entity.GameStatus;
+
+import java.util.UUID;
+
+public record LiveScoreDto(UUID gameId, int setIndex, int homePoints, int guestPoints, int homeSets, int guestSets, GameStatus status) {}
@@ -0,0 +1,3 @@
+package com.tonkar.volleyballreferee.dto;
+
+public record MaintenanceReportDto(long startedAt, long durationMillis, long deletedGames, long deletedFriendRequests, boolean throttled) {}
@@ -0,0 +1,32 @@
+package com.tonkar.volleyballreferee.dto;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+public record PageCursor(long scheduledAt, UUID id) {
+
+    private static final int sEncodedLength = 3 * Long.BYTES;
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(sEncodedLength);
+        buffer.putLong(scheduledAt);
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+
+        if (bytes.length != sEncodedLength) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new PageCursor(buffer.getLong(), new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
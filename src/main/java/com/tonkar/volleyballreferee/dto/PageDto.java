@@ -13,6 +13,8 @@ import java.util.stream.Collectors;
 @NoArgsConstructor
 @JsonIgnoreProperties({ "sort", "pageable" })
 public class PageDto<T> implements Page<T> {
+    public static final int UNKNOWN_TOTAL = -1;
+
     private List<T> content;
 
     private long    totalElements;
@@ -22,16 +24,41 @@ public class PageDto<T> implements Page<T> {
     private int     numberOfElements;
     private boolean first;
     private boolean last;
+    private boolean hasNext;
+    private String  nextCursor;
 
     public PageDto(List<T> content, Pageable pageable, long total) {
+        this(content, pageable);
+        this.totalElements = total;
+        this.totalPages = this.size == 0 ? 1 : (int) Math.ceil(this.totalElements / (double) this.size);
+        this.hasNext = this.number + 1 < this.totalPages;
+        this.last = !this.hasNext;
+    }
+
+    public PageDto(List<T> content, Pageable pageable, boolean hasNext) {
+        this(content, pageable);
+        this.totalElements = UNKNOWN_TOTAL;
+        this.totalPages = UNKNOWN_TOTAL;
+        this.hasNext = hasNext;
+        this.last = !this.hasNext;
+    }
+
+    private PageDto(List<T> content, Pageable pageable) {
         this.content = content;
         this.number = pageable.isPaged() ? pageable.getPageNumber() : 0;
         this.size = pageable.isPaged() ? pageable.getPageSize() : this.content.size();
-        this.totalElements = total;
-        this.totalPages = this.size == 0 ? 1 : (int) Math.ceil(this.totalElements / (double) this.size);
         this.numberOfElements = this.content.size();
-        this.first = !hasPrevious();
-        this.last = !hasNext();
+        this.first = this.number == 0;
+    }
+
+    public PageDto(List<T> content, Pageable pageable, long total, String nextCursor) {
+        this(content, pageable, total);
+        this.nextCursor = nextCursor;
+    }
+
+    public PageDto(List<T> content, Pageable pageable, boolean hasNext, String nextCursor) {
+        this(content, pageable, hasNext);
+        this.nextCursor = nextCursor;
     }
 
     @Override
@@ -46,7 +73,7 @@ public class PageDto<T> implements Page<T> {
 
     @Override
     public boolean hasNext() {
-        return number + 1 < totalPages;
+        return hasNext;
     }
 
     @Override
@@ -66,7 +93,13 @@ public class PageDto<T> implements Page<T> {
 
     @Override
     public <U> Page<U> map(Function<? super T, ? extends U> converter) {
-        return new PageDto<>(this.stream().map(converter).collect(Collectors.toList()), PageRequest.of(number, size), totalElements);
+        List<U> convertedContent = this.stream().map(converter).collect(Collectors.toList());
+
+        if (totalElements == UNKNOWN_TOTAL) {
+            return new PageDto<>(convertedContent, PageRequest.of(number, size), hasNext, nextCursor);
+        } else {
+            return new PageDto<>(convertedContent, PageRequest.of(number, size), totalElements, nextCursor);
+        }
     }
 
     @NotNull
@@ -0,0 +1,38 @@
+package com.tonkar.volleyballreferee.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.*;
+
+import java.util.Objects;
+
+@Getter
+public class PagingRequest extends PageRequest {
+
+    private final boolean    totalRequested;
+    private final PageCursor cursor;
+
+    protected PagingRequest(int pageNumber, int pageSize, boolean totalRequested, PageCursor cursor) {
+        super(pageNumber, pageSize, Sort.unsorted());
+        this.totalRequested = totalRequested;
+        this.cursor = cursor;
+    }
+
+    public static PagingRequest of(int pageNumber, int pageSize, boolean totalRequested) {
+        return new PagingRequest(pageNumber, pageSize, totalRequested, null);
+    }
+
+    public static PagingRequest of(int pageNumber, int pageSize, boolean totalRequested, String cursor) {
+        return new PagingRequest(pageNumber, pageSize, totalRequested, PageCursor.decode(cursor));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof PagingRequest that && super.equals(that) && this.totalRequested == that.totalRequested && Objects.equals(
+                this.cursor, that.cursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * super.hashCode() + Boolean.hashCode(totalRequested)) + Objects.hashCode(cursor);
+    }
+}
@@ -0,0 +1,10 @@
+package com.tonkar.volleyballreferee.dto;
+
+public record PasswordHashingStatsDto(int threads,
+                                      int activeThreads,
+                                      int queueDepth,
+                                      int queueCapacity,
+                                      long completed,
+                                      long rejected,
+                                      long averageDurationMillis,
+                                      long maxDurationMillis) {}
@@ -0,0 +1,6 @@
+package com.tonkar.volleyballreferee.dto;
+
+import com.tonkar.volleyballreferee.entity.*;
+import jakarta.validation.constraints.NotNull;
+
+public record RallyEventDto(@NotNull RallyEventType type, @NotNull TeamType teamType, int playerIn, int playerOut, String card, int num) {}
@@ -33,40 +33,52 @@ public class RankingDto implements Comparable<RankingDto> {
     }
 
     public void addGame(TeamType teamType, GameScoreDto game) {
+        applyGame(teamType, game, 1);
+    }
+
+    public void removeGame(TeamType teamType, GameScoreDto game) {
+        applyGame(teamType, game, -1);
+    }
+
+    public boolean hasMatches() {
+        return matchesFor > 0 || matchesAgainst > 0;
+    }
+
+    private void applyGame(TeamType teamType, GameScoreDto game, int sign) {
         int setsDiff;
 
         if (TeamType.HOME.equals(teamType)) {
             setsDiff = game.getHomeSets() - game.getGuestSets();
-            this.setsFor += game.getHomeSets();
-            this.setsAgainst += game.getGuestSets();
-            this.setsDiff += setsDiff;
+            this.setsFor += sign * game.getHomeSets();
+            this.setsAgainst += sign * game.getGuestSets();
+            this.setsDiff += sign * setsDiff;
 
             for (SetSummaryDto set : game.getSets()) {
                 int pointsDiff = set.homePoints() - set.guestPoints();
-                this.pointsFor += set.homePoints();
-                this.pointsAgainst += set.guestPoints();
-                this.pointsDiff += pointsDiff;
+                this.pointsFor += sign * set.homePoints();
+                this.pointsAgainst += sign * set.guestPoints();
+                this.pointsDiff += sign * pointsDiff;
             }
         } else {
             setsDiff = game.getGuestSets() - game.getHomeSets();
-            this.setsFor += game.getGuestSets();
-            this.setsAgainst += game.getHomeSets();
-            this.setsDiff += setsDiff;
+            this.setsFor += sign * game.getGuestSets();
+            this.setsAgainst += sign * game.getHomeSets();
+            this.setsDiff += sign * setsDiff;
 
             for (SetSummaryDto set : game.getSets()) {
                 int pointsDiff = set.guestPoints() - set.homePoints();
-                this.pointsFor += set.guestPoints();
-                this.pointsAgainst += set.homePoints();
-                this.pointsDiff += pointsDiff;
+                this.pointsFor += sign * set.guestPoints();
+                this.pointsAgainst += sign * set.homePoints();
+                this.pointsDiff += sign * pointsDiff;
             }
         }
 
         if (setsDiff > 0) {
-            this.matchesFor++;
-            this.matchesDiff++;
+            this.matchesFor += sign;
+            this.matchesDiff += sign;
         } else {
-            this.matchesAgainst++;
-            this.matchesDiff--;
+            this.matchesAgainst += sign;
+            this.matchesDiff -= sign;
         }
     }
 
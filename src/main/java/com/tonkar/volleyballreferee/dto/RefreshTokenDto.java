@@ -0,0 +1,5 @@
+package com.tonkar.volleyballreferee.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenDto(@NotBlank String refreshToken) {}
@@ -0,0 +1,11 @@
+package com.tonkar.volleyballreferee.dto;
+
+import lombok.experimental.FieldNameConstants;
+
+@FieldNameConstants
+public record ResourceVersionDto(long lastModified, long count) {
+
+    public String eTag() {
+        return "W/\"%x-%x\"".formatted(lastModified, count);
+    }
+}
@@ -1,3 +1,3 @@
 package com.tonkar.volleyballreferee.dto;
 
-public record UserTokenDto(String token, long tokenExpiry, UserSummaryDto user) {}
+public record UserTokenDto(String token, long tokenExpiry, UserSummaryDto user, String refreshToken, long refreshTokenExpiry) {}
@@ -1,3 +0,0 @@
-package com.tonkar.volleyballreferee.entity;
-
-public record FileWrapper(String filename, byte[] data) {}
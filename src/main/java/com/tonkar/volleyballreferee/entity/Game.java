@@ -1,5 +1,6 @@
 package com.tonkar.volleyballreferee.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.tonkar.volleyballreferee.dto.LeagueSummaryDto;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
@@ -64,6 +65,8 @@ public class Game {
     private String         referee1;
     private String         referee2;
     private String         scorer;
+    @JsonIgnore
+    private List<String>   searchTokens;
 
     public boolean isStartingLineupConfirmed(TeamType teamType, int setIndex) {
         Set set = getSets().get(setIndex);
@@ -0,0 +1,8 @@
+package com.tonkar.volleyballreferee.entity;
+
+public enum RallyEventType {
+    POINT,
+    TIMEOUT,
+    SUBSTITUTION,
+    SANCTION
+}
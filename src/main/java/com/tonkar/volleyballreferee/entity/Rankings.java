@@ -13,6 +13,11 @@ public class Rankings {
         this.rankingMap = new HashMap<>();
     }
 
+    public Rankings(List<RankingDto> rankings) {
+        this.rankingMap = new HashMap<>();
+        rankings.forEach(ranking -> rankingMap.put(ranking.getTeamName(), ranking));
+    }
+
     public void addGame(GameScoreDto game) {
         String teamName = game.getHomeTeamName();
         RankingDto ranking = rankingMap.get(teamName);
@@ -35,6 +40,23 @@ public class Rankings {
         ranking.addGame(TeamType.GUEST, game);
     }
 
+    public void removeGame(GameScoreDto game) {
+        removeGame(TeamType.HOME, game.getHomeTeamName(), game);
+        removeGame(TeamType.GUEST, game.getGuestTeamName(), game);
+    }
+
+    private void removeGame(TeamType teamType, String teamName, GameScoreDto game) {
+        RankingDto ranking = rankingMap.get(teamName);
+
+        if (ranking != null) {
+            ranking.removeGame(teamType, game);
+
+            if (!ranking.hasMatches()) {
+                rankingMap.remove(teamName);
+            }
+        }
+    }
+
     public List<RankingDto> list() {
         return rankingMap.values().stream().sorted().collect(Collectors.toList());
     }
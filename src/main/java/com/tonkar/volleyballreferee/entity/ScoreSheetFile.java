@@ -0,0 +1,8 @@
+package com.tonkar.volleyballreferee.entity;
+
+public record ScoreSheetFile(String filename,
+                             String eTag,
+                             long lastModified,
+                             long contentLength,
+                             boolean gzipped,
+                             StreamingFileWrapper.Content content) {}
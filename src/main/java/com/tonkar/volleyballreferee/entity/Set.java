@@ -48,6 +48,14 @@ public class Set {
         return TeamType.HOME.equals(teamType) ? homePoints : guestPoints;
     }
 
+    public int getTimeouts(TeamType teamType) {
+        return TeamType.HOME.equals(teamType) ? homeTimeouts : guestTimeouts;
+    }
+
+    public Court getCurrentPlayers(TeamType teamType) {
+        return TeamType.HOME.equals(teamType) ? homeCurrentPlayers : guestCurrentPlayers;
+    }
+
     @NoArgsConstructor
     @Getter
     @Setter
@@ -67,6 +75,16 @@ public class Set {
                 default -> true;
             };
         }
+
+        public int getPosition(int player) {
+            int[] players = { p1, p2, p3, p4, p5, p6 };
+            for (int index = 0; index < players.length; index++) {
+                if (players[index] == player) {
+                    return index + 1;
+                }
+            }
+            return 0;
+        }
     }
 
     @NoArgsConstructor
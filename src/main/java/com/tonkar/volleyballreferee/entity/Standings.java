@@ -0,0 +1,31 @@
+package com.tonkar.volleyballreferee.entity;
+
+import com.tonkar.volleyballreferee.dto.RankingDto;
+import lombok.*;
+import lombok.experimental.FieldNameConstants;
+import org.springframework.data.annotation.*;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.*;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@FieldNameConstants
+@Document(collection = "standings")
+public class Standings {
+
+    @Id
+    private String           id;
+    @Version
+    private Long             version;
+    private UUID             leagueId;
+    private String           divisionName;
+    private long             updatedAt;
+    private List<UUID>       gameIds;
+    private List<RankingDto> rankings;
+
+    public static String computeId(UUID leagueId, String divisionName) {
+        return String.format("%s/%s", leagueId, divisionName);
+    }
+}
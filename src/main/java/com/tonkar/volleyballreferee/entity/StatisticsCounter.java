@@ -0,0 +1,28 @@
+package com.tonkar.volleyballreferee.entity;
+
+import lombok.*;
+import lombok.experimental.FieldNameConstants;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.UUID;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@FieldNameConstants
+@Document(collection = "statistics")
+public class StatisticsCounter {
+
+    @Id
+    private String   id;
+    private UUID     userId;
+    private GameType kind;
+    private long     games;
+    private long     teams;
+    private long     updatedAt;
+
+    public static String computeId(UUID userId, GameType kind) {
+        return String.format("%s/%s", userId == null ? "global" : userId, kind);
+    }
+}
@@ -0,0 +1,11 @@
+package com.tonkar.volleyballreferee.entity;
+
+import java.io.*;
+
+public record StreamingFileWrapper(String filename, Content content) {
+
+    @FunctionalInterface
+    public interface Content {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+}
@@ -3,7 +3,9 @@ package com.tonkar.volleyballreferee.export;
 import com.tonkar.volleyballreferee.dto.*;
 import com.tonkar.volleyballreferee.entity.*;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.*;
 import org.apache.poi.xssf.usermodel.*;
 
 import java.awt.*;
@@ -16,22 +18,30 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 public class ExcelDivisionWriter {
 
-    private final List<GameScoreDto> games;
-    private final XSSFWorkbook       workbook;
-    private final XSSFCellStyle      headerStyle;
-    private final XSSFCellStyle      matchStyle;
-    private final XSSFCellStyle      setStyle;
-    private final XSSFCellStyle      pointStyle;
-    private final XSSFCellStyle      homeDefaultStyle;
-    private final XSSFCellStyle      guestDefaultStyle;
-    private final XSSFCellStyle      homeSetStyle;
-    private final XSSFCellStyle      guestSetStyle;
-    private final XSSFCellStyle      homePointStyle;
-    private final XSSFCellStyle      guestPointStyle;
-
-    private ExcelDivisionWriter(List<GameScoreDto> games) {
+    private static final int sRowAccessWindow = 100;
+
+    private final List<GameScoreDto>     games;
+    private final List<RankingDto>       rankings;
+    private final SXSSFWorkbook          workbook;
+    private final Map<String, CellStyle> teamStyles;
+    private final Map<Short, Font>       teamFonts;
+    private final CellStyle              headerStyle;
+    private final CellStyle              matchStyle;
+    private final CellStyle              setStyle;
+    private final CellStyle              pointStyle;
+    private final CellStyle              homeDefaultStyle;
+    private final CellStyle              guestDefaultStyle;
+    private final CellStyle              homeSetStyle;
+    private final CellStyle              guestSetStyle;
+    private final CellStyle              homePointStyle;
+    private final CellStyle              guestPointStyle;
+
+    private ExcelDivisionWriter(SXSSFWorkbook workbook, List<GameScoreDto> games, List<RankingDto> rankings) {
         this.games = games;
-        this.workbook = new XSSFWorkbook();
+        this.rankings = rankings;
+        this.workbook = workbook;
+        this.teamStyles = new HashMap<>();
+        this.teamFonts = new HashMap<>();
         this.headerStyle = createExcelBorderedStyle("#e4e4e4");
         this.matchStyle = createExcelBorderedStyle("#F0E68C");
         this.setStyle = createExcelBorderedStyle("#ADD8E6");
@@ -44,21 +54,22 @@ public class ExcelDivisionWriter {
         this.guestPointStyle = createExcelBorderedStyle("#E9967A", TeamType.GUEST);
     }
 
-    private XSSFWorkbook getWorkbook() {
-        return workbook;
+    public static StreamingFileWrapper writeExcelDivision(String divisionName, List<GameScoreDto> games, List<RankingDto> rankings) {
+        String filename = String.format(Locale.getDefault(), "%s.xlsx", divisionName);
+        filename = filename.replaceAll("[\\s|\\?\\*<:>\\+\\[\\]/\\']", "_");
+        return new StreamingFileWrapper(filename, outputStream -> writeExcelDivision(games, rankings, outputStream));
     }
 
-    public static FileWrapper writeExcelDivision(String divisionName, List<GameScoreDto> games) throws IOException {
-        ExcelDivisionWriter excelDivisionWriter = new ExcelDivisionWriter(games);
-        excelDivisionWriter.createMatchesExcelSheet();
-        excelDivisionWriter.createRankingsExcelSheet();
-
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        excelDivisionWriter.getWorkbook().write(byteArrayOutputStream);
+    private static void writeExcelDivision(List<GameScoreDto> games, List<RankingDto> rankings, OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(sRowAccessWindow);
+        workbook.setCompressTempFiles(true);
 
-        String filename = String.format(Locale.getDefault(), "%s.xlsx", divisionName);
-        filename = filename.replaceAll("[\\s|\\?\\*<:>\\+\\[\\]/\\']", "_");
-        return new FileWrapper(filename, byteArrayOutputStream.toByteArray());
+        try (workbook) {
+            ExcelDivisionWriter excelDivisionWriter = new ExcelDivisionWriter(workbook, games, rankings);
+            excelDivisionWriter.createMatchesExcelSheet();
+            excelDivisionWriter.createRankingsExcelSheet();
+            workbook.write(outputStream);
+        }
     }
 
     private void createMatchesExcelSheet() {
@@ -67,11 +78,11 @@ public class ExcelDivisionWriter {
 
         String[] gamesHeader = { "Date", "Team", "Total Sets", "Set 1", "Set 2", "Set 3", "Set 4", "Set 5", "Total Points" };
 
-        XSSFSheet sheet = workbook.createSheet("Matches");
-        XSSFRow row = sheet.createRow(0);
+        SXSSFSheet sheet = workbook.createSheet("Matches");
+        SXSSFRow row = sheet.createRow(0);
 
         for (int index = 0; index < gamesHeader.length; index++) {
-            XSSFCell cell = row.createCell(index);
+            SXSSFCell cell = row.createCell(index);
             cell.setCellValue(gamesHeader[index]);
             cell.setCellStyle(headerStyle);
         }
@@ -81,7 +92,7 @@ public class ExcelDivisionWriter {
         for (GameScoreDto game : games) {
             row = sheet.createRow(rowIndex);
 
-            XSSFCell cell = row.createCell(0);
+            SXSSFCell cell = row.createCell(0);
             cell.setCellValue(formatter.format(game.getScheduledAt()));
             cell.setCellStyle(headerStyle);
             sheet.addMergedRegion(new CellRangeAddress(rowIndex, rowIndex + 1, 0, 0));
@@ -96,8 +107,8 @@ public class ExcelDivisionWriter {
         }
     }
 
-    private void createMatchExcelRow(XSSFRow row, TeamType teamType, GameScoreDto game) {
-        XSSFCell cell = row.createCell(1);
+    private void createMatchExcelRow(SXSSFRow row, TeamType teamType, GameScoreDto game) {
+        SXSSFCell cell = row.createCell(1);
         cell.setCellValue(game.getTeamName(teamType).trim());
         cell.setCellStyle(createExcelTeamStyle(teamType, game.getTeamColor(teamType)));
 
@@ -108,30 +119,30 @@ public class ExcelDivisionWriter {
         createSetsExcelRow(row, teamType, game);
     }
 
-    private void createSetsExcelRow(XSSFRow row, TeamType teamType, GameScoreDto game) {
+    private void createSetsExcelRow(SXSSFRow row, TeamType teamType, GameScoreDto game) {
         int columnIndex = 3;
 
         int total = 0;
 
-        XSSFCellStyle style = TeamType.HOME.equals(teamType) ? homeDefaultStyle : guestDefaultStyle;
+        CellStyle style = TeamType.HOME.equals(teamType) ? homeDefaultStyle : guestDefaultStyle;
 
         for (SetSummaryDto set : game.getSets()) {
             int points = set.getPoints(teamType);
             total += points;
-            XSSFCell cell = row.createCell(columnIndex);
+            SXSSFCell cell = row.createCell(columnIndex);
             cell.setCellValue(points);
             cell.setCellStyle(style);
             columnIndex++;
         }
 
         while (columnIndex < 8) {
-            XSSFCell cell = row.createCell(columnIndex);
+            SXSSFCell cell = row.createCell(columnIndex);
             cell.setCellValue(0);
             cell.setCellStyle(style);
             columnIndex++;
         }
 
-        XSSFCell cell = row.createCell(columnIndex);
+        SXSSFCell cell = row.createCell(columnIndex);
         cell.setCellValue(total);
         cell.setCellStyle(TeamType.HOME.equals(teamType) ? homePointStyle : guestPointStyle);
     }
@@ -150,25 +161,22 @@ public class ExcelDivisionWriter {
                                     "Points Diff"
         };
 
-        XSSFSheet sheet = workbook.createSheet("Rankings");
-        XSSFRow row = sheet.createRow(0);
+        SXSSFSheet sheet = workbook.createSheet("Rankings");
+        SXSSFRow row = sheet.createRow(0);
 
         for (int index = 0; index < rankingsHeader.length; index++) {
-            XSSFCell cell = row.createCell(index);
+            SXSSFCell cell = row.createCell(index);
             cell.setCellValue(rankingsHeader[index]);
             cell.setCellStyle(headerStyle);
         }
 
-        Rankings rankings = new Rankings();
-        games.forEach(rankings::addGame);
-
         int rowIndex = 1;
 
-        for (RankingDto ranking : rankings.list()) {
+        for (RankingDto ranking : rankings) {
             row = sheet.createRow(rowIndex);
             AtomicInteger columnIndex = new AtomicInteger(0);
 
-            XSSFCell cell = row.createCell(columnIndex.getAndIncrement());
+            SXSSFCell cell = row.createCell(columnIndex.getAndIncrement());
             cell.setCellValue(ranking.getTeamName());
             cell.setCellStyle(createExcelTeamStyle(ranking.getTeamColor()));
 
@@ -216,8 +224,21 @@ public class ExcelDivisionWriter {
         }
     }
 
-    private XSSFCellStyle createExcelTeamStyle(String color) {
-        XSSFCellStyle style = workbook.createCellStyle();
+    private CellStyle createExcelTeamStyle(String color) {
+        return teamStyles.computeIfAbsent(color.toLowerCase(Locale.ROOT), this::createTeamStyle);
+    }
+
+    private CellStyle createExcelTeamStyle(TeamType teamType, String color) {
+        return teamStyles.computeIfAbsent(teamType + color.toLowerCase(Locale.ROOT), key -> {
+            CellStyle style = createTeamStyle(color);
+            style.setBorderTop(TeamType.HOME.equals(teamType) ? BorderStyle.THIN : BorderStyle.NONE);
+            style.setBorderBottom(TeamType.HOME.equals(teamType) ? BorderStyle.NONE : BorderStyle.THIN);
+            return style;
+        });
+    }
+
+    private CellStyle createTeamStyle(String color) {
+        XSSFCellStyle style = (XSSFCellStyle) workbook.createCellStyle();
         style.setFillForegroundColor(new XSSFColor(Color.decode(color), new DefaultIndexedColorMap()));
         style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
         style.setBorderTop(BorderStyle.THIN);
@@ -225,28 +246,18 @@ public class ExcelDivisionWriter {
         style.setBorderLeft(BorderStyle.THIN);
         style.setBorderRight(BorderStyle.THIN);
         style.setVerticalAlignment(VerticalAlignment.CENTER);
-
-        org.apache.poi.ss.usermodel.Font font = workbook.createFont();
-        font.setFontHeight((short) 200);
-        font.setColor(getTextColor(color));
-        style.setFont(font);
-
-        return style;
-    }
-
-    private XSSFCellStyle createExcelTeamStyle(TeamType teamType, String color) {
-        XSSFCellStyle style = createExcelTeamStyle(color);
-        style.setBorderTop(TeamType.HOME.equals(teamType) ? BorderStyle.THIN : BorderStyle.NONE);
-        style.setBorderBottom(TeamType.HOME.equals(teamType) ? BorderStyle.NONE : BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        style.setVerticalAlignment(VerticalAlignment.CENTER);
+        style.setFont(teamFonts.computeIfAbsent(getTextColor(color), textColor -> {
+            Font font = workbook.createFont();
+            font.setFontHeight((short) 200);
+            font.setColor(textColor);
+            return font;
+        }));
 
         return style;
     }
 
-    private XSSFCellStyle createExcelBorderedStyle(String color, TeamType teamType) {
-        XSSFCellStyle style = workbook.createCellStyle();
+    private CellStyle createExcelBorderedStyle(String color, TeamType teamType) {
+        XSSFCellStyle style = (XSSFCellStyle) workbook.createCellStyle();
         style.setFillForegroundColor(new XSSFColor(Color.decode(color), new DefaultIndexedColorMap()));
         style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
         style.setBorderTop(TeamType.HOME.equals(teamType) ? BorderStyle.THIN : BorderStyle.NONE);
@@ -257,8 +268,8 @@ public class ExcelDivisionWriter {
         return style;
     }
 
-    private XSSFCellStyle createExcelStyle(TeamType teamType) {
-        XSSFCellStyle style = workbook.createCellStyle();
+    private CellStyle createExcelStyle(TeamType teamType) {
+        CellStyle style = workbook.createCellStyle();
         style.setBorderTop(TeamType.HOME.equals(teamType) ? BorderStyle.THIN : BorderStyle.NONE);
         style.setBorderBottom(TeamType.HOME.equals(teamType) ? BorderStyle.NONE : BorderStyle.THIN);
         style.setBorderLeft(BorderStyle.THIN);
@@ -267,8 +278,8 @@ public class ExcelDivisionWriter {
         return style;
     }
 
-    private XSSFCellStyle createExcelBorderedStyle(String color) {
-        XSSFCellStyle style = workbook.createCellStyle();
+    private CellStyle createExcelBorderedStyle(String color) {
+        XSSFCellStyle style = (XSSFCellStyle) workbook.createCellStyle();
         style.setFillForegroundColor(new XSSFColor(Color.decode(color), new DefaultIndexedColorMap()));
         style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
         style.setBorderTop(BorderStyle.THIN);
@@ -0,0 +1,113 @@
+package com.tonkar.volleyballreferee.export;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.*;
+
+final class HtmlTemplate {
+
+    private static final Pattern sVariablePattern = Pattern.compile("\\$\\{([^}]+)}");
+
+    private final List<String> literals;
+    private final List<String> variables;
+
+    private HtmlTemplate(List<String> literals, List<String> variables) {
+        this.literals = literals;
+        this.variables = variables;
+    }
+
+    static HtmlTemplate compile(String resource, Function<String, String> constants) {
+        String template;
+
+        try (InputStream stream = HtmlTemplate.class.getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new IllegalStateException(String.format("Could not find template %s", resource));
+            }
+            template = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Could not read template %s", resource), e);
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        Matcher matcher = sVariablePattern.matcher(template);
+        int position = 0;
+
+        while (matcher.find()) {
+            literal.append(template, position, matcher.start());
+            String constant = constants.apply(matcher.group(1));
+
+            if (constant == null) {
+                literals.add(literal.toString());
+                variables.add(matcher.group(1));
+                literal.setLength(0);
+            } else {
+                literal.append(constant);
+            }
+
+            position = matcher.end();
+        }
+
+        literal.append(template, position, template.length());
+        literals.add(literal.toString());
+
+        return new HtmlTemplate(List.copyOf(literals), List.copyOf(variables));
+    }
+
+    void render(Writer writer, Map<String, String> values, Fragment content) throws IOException {
+        for (int index = 0; index < variables.size(); index++) {
+            writer.write(literals.get(index));
+
+            String variable = variables.get(index);
+
+            if ("content".equals(variable)) {
+                content.write(writer);
+            } else {
+                writer.write(escape(values.getOrDefault(variable, "")));
+            }
+        }
+
+        writer.write(literals.get(literals.size() - 1));
+    }
+
+    static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        StringBuilder builder = null;
+
+        for (int index = 0; index < text.length(); index++) {
+            char character = text.charAt(index);
+            String replacement = switch (character) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\u00a0' -> "&nbsp;";
+                default -> null;
+            };
+
+            if (replacement != null && builder == null) {
+                builder = new StringBuilder(text.length() + 16).append(text, 0, index);
+            }
+            if (builder != null) {
+                if (replacement == null) {
+                    builder.append(character);
+                } else {
+                    builder.append(replacement);
+                }
+            }
+        }
+
+        return builder == null ? text : builder.toString();
+    }
+
+    @FunctionalInterface
+    interface Fragment {
+        void write(Writer writer) throws IOException;
+    }
+}
@@ -0,0 +1,257 @@
+package com.tonkar.volleyballreferee.export;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.zip.*;
+
+final class PdfDocument implements Closeable {
+
+    static final float PAGE_WIDTH  = 841.89f;
+    static final float PAGE_HEIGHT = 595.28f;
+
+    private static final Charset sEncoding = Charset.forName("windows-1252");
+
+    private static final int sPagesObject     = 1;
+    private static final int sCatalogObject   = 2;
+    private static final int sResourcesObject = 3;
+
+    private static final int[] sRegularWidths = { 278, 278, 355, 556, 556, 889, 667, 191, 333, 333, 389, 584, 278, 333, 278, 278, 556, 556, 556,
+                                                  556, 556, 556, 556, 556, 556, 556, 278, 278, 584, 584, 584, 556, 1015, 667, 667, 722, 722,
+                                                  667, 611, 778, 722, 278, 500, 667, 556, 833, 722, 778, 667, 778, 722, 667, 611, 722, 667, 944,
+                                                  667, 667, 611, 278, 278, 278, 469, 556, 333, 556, 556, 500, 556, 556, 278, 556, 556, 222, 222,
+                                                  500, 222, 833, 556, 556, 556, 556, 333, 500, 278, 556, 500, 722, 500, 500, 500, 334, 260, 334,
+                                                  584 };
+
+    private static final int[] sBoldWidths = { 278, 333, 474, 556, 556, 889, 722, 238, 333, 333, 389, 584, 278, 333, 278, 278, 556, 556, 556, 556,
+                                               556, 556, 556, 556, 556, 556, 333, 333, 584, 584, 584, 611, 975, 722, 722, 722, 722, 667, 611,
+                                               778, 722, 278, 556, 722, 611, 833, 722, 778, 667, 778, 722, 667, 611, 722, 667, 944, 667, 667,
+                                               611, 333, 278, 333, 584, 556, 333, 556, 611, 556, 611, 556, 333, 611, 611, 278, 278, 556, 278,
+                                               889, 611, 611, 611, 611, 389, 556, 333, 611, 556, 778, 556, 556, 500, 389, 280, 389, 584 };
+
+    private final CountingOutputStream  output;
+    private final List<Long>            offsets;
+    private final List<Integer>         pages;
+    private final Map<String, String>   imageNames;
+    private final ByteArrayOutputStream content;
+    private final int                   infoObject;
+
+    PdfDocument(OutputStream outputStream, String title, Map<String, PdfImage> images) throws IOException {
+        this.output = new CountingOutputStream(new BufferedOutputStream(outputStream));
+        this.offsets = new ArrayList<>(List.of(0L, 0L, 0L));
+        this.pages = new ArrayList<>();
+        this.imageNames = new HashMap<>();
+        this.content = new ByteArrayOutputStream();
+
+        output.write(new byte[] { '%', 'P', 'D', 'F', '-', '1', '.', '4', '\n', '%', (byte) 0xe2, (byte) 0xe3, (byte) 0xcf, (byte) 0xd3, '\n' });
+
+        int regularFont = writeObject("<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>");
+        int boldFont = writeObject("<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica-Bold /Encoding /WinAnsiEncoding >>");
+
+        StringBuilder xObjects = new StringBuilder();
+
+        for (Map.Entry<String, PdfImage> image : new TreeMap<>(images).entrySet()) {
+            PdfImage pdfImage = image.getValue();
+            int mask = writeStream(String.format(Locale.ROOT,
+                                                 "/Type /XObject /Subtype /Image /Width %d /Height %d /ColorSpace /DeviceGray /BitsPerComponent 8",
+                                                 pdfImage.width(), pdfImage.height()), pdfImage.alpha());
+            int pixels = writeStream(String.format(Locale.ROOT,
+                                                   "/Type /XObject /Subtype /Image /Width %d /Height %d /ColorSpace /DeviceRGB /BitsPerComponent 8 "
+                                                   + "/SMask %d 0 R", pdfImage.width(), pdfImage.height(), mask), pdfImage.rgb());
+            String imageName = "Im" + (imageNames.size() + 1);
+            imageNames.put(image.getKey(), imageName);
+            xObjects.append(String.format(Locale.ROOT, " /%s %d 0 R", imageName, pixels));
+        }
+
+        writeObject(sResourcesObject,
+                    String.format(Locale.ROOT, "<< /Font << /F1 %d 0 R /F2 %d 0 R >> /XObject <<%s >> >>", regularFont, boldFont, xObjects));
+
+        this.infoObject = writeObject(String.format(Locale.ROOT, "<< /Title %s /Producer (Volleyball Referee) >>", toPdfString(title)));
+    }
+
+    static float textWidth(String text, boolean bold, float size) {
+        int[] widths = bold ? sBoldWidths : sRegularWidths;
+        float width = 0f;
+
+        for (byte b : text.getBytes(sEncoding)) {
+            int code = b & 0xff;
+            width += code >= 32 && code <= 126 ? widths[code - 32] : (code == 0x85 ? 1000 : 556);
+        }
+
+        return width * size / 1000f;
+    }
+
+    static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+
+        try (DeflaterOutputStream deflaterStream = new DeflaterOutputStream(compressed, deflater)) {
+            deflaterStream.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+
+        return compressed.toByteArray();
+    }
+
+    void newPage() throws IOException {
+        if (content.size() > 0) {
+            endPage();
+        }
+    }
+
+    void fillRect(float x, float y, float width, float height, String color) {
+        append("%s rg %.2f %.2f %.2f %.2f re f\n", toPdfColor(color), x, toPdfY(y + height), width, height);
+    }
+
+    void fillRoundedRect(float x, float y, float width, float height, float radius, String color) {
+        float r = Math.min(radius, Math.min(width, height) / 2f);
+        float k = r * 0.5523f;
+        float left = x;
+        float right = x + width;
+        float top = toPdfY(y);
+        float bottom = toPdfY(y + height);
+
+        append("%s rg %.2f %.2f m %.2f %.2f l %.2f %.2f %.2f %.2f %.2f %.2f c %.2f %.2f l %.2f %.2f %.2f %.2f %.2f %.2f c ",
+               toPdfColor(color), left + r, bottom, right - r, bottom, right - r + k, bottom, right, bottom + r - k, right, bottom + r,
+               right, top - r, right, top - r + k, right - r + k, top, right - r, top);
+        append("%.2f %.2f l %.2f %.2f %.2f %.2f %.2f %.2f c %.2f %.2f l %.2f %.2f %.2f %.2f %.2f %.2f c f\n", left + r, top, left + r - k,
+               top, left, top - r + k, left, top - r, left, bottom + r, left, bottom + r - k, left + r - k, bottom, left + r, bottom);
+    }
+
+    void strokeRect(float x, float y, float width, float height, String color) {
+        append("%s RG 0.75 w %.2f %.2f %.2f %.2f re S\n", toPdfColor(color), x, toPdfY(y + height), width, height);
+    }
+
+    void line(float x1, float y1, float x2, float y2, String color) {
+        append("%s RG 0.75 w %.2f %.2f m %.2f %.2f l S\n", toPdfColor(color), x1, toPdfY(y1), x2, toPdfY(y2));
+    }
+
+    void text(float x, float baseline, String text, boolean bold, float size, String color) {
+        append("BT /%s %.1f Tf %s rg %.2f %.2f Td ", bold ? "F2" : "F1", size, toPdfColor(color), x, toPdfY(baseline));
+        content.writeBytes(toPdfString(text).getBytes(sEncoding));
+        append(" Tj ET\n");
+    }
+
+    void image(String image, float x, float y, float width, float height) {
+        String imageName = imageNames.get(image);
+
+        if (imageName != null) {
+            append("q %.2f 0 0 %.2f %.2f %.2f cm /%s Do Q\n", width, height, x, toPdfY(y + height), imageName);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (content.size() > 0 || pages.isEmpty()) {
+            endPage();
+        }
+
+        StringBuilder kids = new StringBuilder();
+        pages.forEach(page -> kids.append(page).append(" 0 R "));
+        writeObject(sPagesObject, String.format(Locale.ROOT, "<< /Type /Pages /Kids [ %s] /Count %d >>", kids, pages.size()));
+        writeObject(sCatalogObject, String.format(Locale.ROOT, "<< /Type /Catalog /Pages %d 0 R >>", sPagesObject));
+
+        long xrefOffset = output.count();
+        StringBuilder xref = new StringBuilder();
+        xref.append(String.format(Locale.ROOT, "xref\n0 %d\n0000000000 65535 f \n", offsets.size() + 1));
+        offsets.forEach(offset -> xref.append(String.format(Locale.ROOT, "%010d 00000 n \n", offset)));
+        xref.append(String.format(Locale.ROOT, "trailer\n<< /Size %d /Root %d 0 R /Info %d 0 R >>\nstartxref\n%d\n%%%%EOF\n",
+                                  offsets.size() + 1, sCatalogObject, infoObject, xrefOffset));
+        writeAscii(xref.toString());
+        output.flush();
+    }
+
+    private void endPage() throws IOException {
+        int contents = writeStream("", deflate(content.toByteArray()));
+        content.reset();
+
+        int page = writeObject(String.format(Locale.ROOT,
+                                             "<< /Type /Page /Parent %d 0 R /MediaBox [0 0 %.2f %.2f] /Resources %d 0 R /Contents %d 0 R >>",
+                                             sPagesObject, PAGE_WIDTH, PAGE_HEIGHT, sResourcesObject, contents));
+        pages.add(page);
+        output.flush();
+    }
+
+    private int writeObject(String body) throws IOException {
+        offsets.add(0L);
+        int object = offsets.size();
+        writeObject(object, body);
+        return object;
+    }
+
+    private void writeObject(int object, String body) throws IOException {
+        offsets.set(object - 1, output.count());
+        writeAscii(String.format(Locale.ROOT, "%d 0 obj\n%s\nendobj\n", object, body));
+    }
+
+    private int writeStream(String dictionary, byte[] data) throws IOException {
+        offsets.add(0L);
+        int object = offsets.size();
+        offsets.set(object - 1, output.count());
+        writeAscii(String.format(Locale.ROOT, "%d 0 obj\n<< %s /Filter /FlateDecode /Length %d >>\nstream\n", object, dictionary, data.length));
+        output.write(data);
+        writeAscii("\nendstream\nendobj\n");
+        return object;
+    }
+
+    private void writeAscii(String text) throws IOException {
+        output.write(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private void append(String format, Object... args) {
+        content.writeBytes(String.format(Locale.ROOT, format, args).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private float toPdfY(float y) {
+        return PAGE_HEIGHT - y;
+    }
+
+    private String toPdfColor(String color) {
+        int rgb = Integer.parseInt(color.substring(1), 16);
+        return String.format(Locale.ROOT, "%.3f %.3f %.3f", ((rgb >> 16) & 0xff) / 255f, ((rgb >> 8) & 0xff) / 255f, (rgb & 0xff) / 255f);
+    }
+
+    private static String toPdfString(String text) {
+        StringBuilder pdfString = new StringBuilder(text.length() + 2).append('(');
+
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '(', ')', '\\' -> pdfString.append('\\').append(c);
+                case '\n', '\r', '\t' -> pdfString.append(' ');
+                default -> pdfString.append(c);
+            }
+        }
+
+        return pdfString.append(')').toString();
+    }
+
+    record PdfImage(int width, int height, byte[] rgb, byte[] alpha) {}
+
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        long count() {
+            return count;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
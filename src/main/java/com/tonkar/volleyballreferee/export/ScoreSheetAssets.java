@@ -0,0 +1,128 @@
+package com.tonkar.volleyballreferee.export;
+
+import com.github.benmanes.caffeine.cache.*;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.util.*;
+
+@Slf4j
+final class ScoreSheetAssets {
+
+    private static final String IMAGE_PREFIX = "image:";
+
+    private static final List<String> sImageFilenames = List.of("ic_sub.png", "ic_timeout.png", "ic_timeout_white.png", "ic_yellow_card.png",
+                                                                "ic_red_card.png", "ic_expulsion_card.png",
+                                                                "ic_disqualification_card.png", "ic_delay_warning.png",
+                                                                "ic_delay_penalty.png");
+
+    private static final Map<String, byte[]> sImages = loadImages();
+
+    private static final Map<String, String> sBase64Images = encodeImages();
+
+    private static final Map<String, PdfDocument.PdfImage> sPdfImages = decodeImages();
+
+    private static final HtmlTemplate sScoreSheetTemplate = HtmlTemplate.compile("/templates/score-sheet.html",
+                                                                                 ScoreSheetAssets::resolveConstant);
+
+    private static final LoadingCache<String, Boolean> sDarkColors = Caffeine
+            .newBuilder()
+            .maximumSize(1024)
+            .build(ScoreSheetAssets::isDark);
+
+    private ScoreSheetAssets() {}
+
+    static HtmlTemplate scoreSheetTemplate() {
+        return sScoreSheetTemplate;
+    }
+
+    static Map<String, PdfDocument.PdfImage> pdfImages() {
+        return sPdfImages;
+    }
+
+    static String textColor(String backgroundColor) {
+        return sDarkColors.get(backgroundColor) ? "#ffffff" : "#1f1f1f";
+    }
+
+    static String timeoutImageClass(String backgroundColor) {
+        return sDarkColors.get(backgroundColor) ? "timeout-white-image" : "timeout-gray-image";
+    }
+
+    static String timeoutImage(String backgroundColor) {
+        return sDarkColors.get(backgroundColor) ? "ic_timeout_white.png" : "ic_timeout.png";
+    }
+
+    private static boolean isDark(String backgroundColor) {
+        Color color = Color.decode(backgroundColor);
+        double a = 1 - (0.299 * color.getRed() + 0.587 * color.getGreen() + 0.114 * color.getBlue()) / 255;
+        return a >= 0.5;
+    }
+
+    private static String resolveConstant(String variable) {
+        return variable.startsWith(IMAGE_PREFIX) ? sBase64Images.getOrDefault(variable.substring(IMAGE_PREFIX.length()), "") : null;
+    }
+
+    private static Map<String, byte[]> loadImages() {
+        Map<String, byte[]> images = new HashMap<>();
+
+        for (String imageFilename : sImageFilenames) {
+            try (InputStream stream = ScoreSheetAssets.class.getResourceAsStream(String.format("/images/%s", imageFilename))) {
+                if (stream == null) {
+                    log.error("Could not find image {}", imageFilename);
+                } else {
+                    images.put(imageFilename, stream.readAllBytes());
+                }
+            } catch (IOException e) {
+                log.error("Could not read image {}", imageFilename);
+            }
+        }
+
+        return Map.copyOf(images);
+    }
+
+    private static Map<String, String> encodeImages() {
+        Map<String, String> images = new HashMap<>();
+        sImages.forEach((imageFilename, image) -> images.put(imageFilename, Base64.getEncoder().encodeToString(image)));
+        return Map.copyOf(images);
+    }
+
+    private static Map<String, PdfDocument.PdfImage> decodeImages() {
+        Map<String, PdfDocument.PdfImage> images = new HashMap<>();
+
+        sImages.forEach((imageFilename, image) -> {
+            try {
+                BufferedImage bufferedImage = ImageIO.read(new ByteArrayInputStream(image));
+
+                if (bufferedImage == null) {
+                    log.error("Could not decode image {}", imageFilename);
+                    return;
+                }
+
+                int width = bufferedImage.getWidth();
+                int height = bufferedImage.getHeight();
+                byte[] rgb = new byte[width * height * 3];
+                byte[] alpha = new byte[width * height];
+
+                for (int y = 0; y < height; y++) {
+                    for (int x = 0; x < width; x++) {
+                        int pixel = bufferedImage.getRGB(x, y);
+                        int index = y * width + x;
+                        rgb[index * 3] = (byte) (pixel >> 16);
+                        rgb[index * 3 + 1] = (byte) (pixel >> 8);
+                        rgb[index * 3 + 2] = (byte) pixel;
+                        alpha[index] = (byte) (pixel >>> 24);
+                    }
+                }
+
+                images.put(imageFilename, new PdfDocument.PdfImage(width, height, PdfDocument.deflate(rgb), PdfDocument.deflate(alpha)));
+            } catch (IOException e) {
+                log.error("Could not decode image {}", imageFilename);
+            }
+        });
+
+        return Map.copyOf(images);
+    }
+}
@@ -0,0 +1,568 @@
+package com.tonkar.volleyballreferee.export;
+
+import com.tonkar.volleyballreferee.entity.*;
+import com.tonkar.volleyballreferee.entity.Set;
+
+import java.io.*;
+import java.text.DateFormat;
+import java.util.*;
+
+public class ScoreSheetPdfWriter {
+
+    private static final float  sMargin          = 24f;
+    private static final float  sPadding         = 6f;
+    private static final float  sContentWidth    = PdfDocument.PAGE_WIDTH - 2 * sMargin;
+    private static final float  sInnerWidth      = sContentWidth - 2 * sPadding;
+    private static final float  sFooterHeight    = 18f;
+    private static final float  sFontSize        = 9f;
+    private static final float  sFooterFontSize  = 7.5f;
+    private static final float  sCellHeight      = 15f;
+    private static final float  sBadgeWidth      = 20f;
+    private static final float  sBadgeHeight     = 13f;
+    private static final float  sBadgeMargin     = 1.5f;
+    private static final float  sRowHeight       = sBadgeHeight + 2 * sBadgeMargin;
+    private static final float  sColumnWidth     = sBadgeWidth + 2 * sBadgeMargin;
+    private static final float  sScoreWidth      = 34f;
+    private static final float  sSanctionWidth   = 36f;
+    private static final float  sSanctionHeight  = 18f;
+    private static final float  sSpacing         = 9f;
+    private static final float  sTitleHeight     = 14f;
+    private static final float  sHorizontalSpace = 50f;
+    private static final float  sLadderSpacing   = 7.5f;
+    private static final String sTextColor       = "#1f1f1f";
+    private static final String sCardColor       = "#ecebec";
+    private static final String sSameColor       = "#d6d7d7";
+
+    private final PdfDocument document;
+    private final Game        game;
+    private final DateFormat  dateFormatter;
+    private final DateFormat  timeFormatter;
+    private final String      homeTeamColor;
+    private final String      homeLiberoColor;
+    private final String      guestTeamColor;
+    private final String      guestLiberoColor;
+    private       float       y;
+
+    public static StreamingFileWrapper createScoreSheet(Game game) {
+        String filename = ScoreSheetWriter.createFilename(game, "pdf");
+        return new StreamingFileWrapper(filename, outputStream -> writeScoreSheets(List.of(game), filename, outputStream));
+    }
+
+    public static String createFilename(String divisionName) {
+        String filename = String.format(Locale.getDefault(), "%s.pdf", divisionName);
+        return filename.replaceAll("[\\s|\\?\\*<:>\\+\\[\\]/\\']", "_");
+    }
+
+    public static void writeScoreSheets(Iterable<Game> games, String title, OutputStream outputStream) throws IOException {
+        try (PdfDocument document = new PdfDocument(outputStream, title, ScoreSheetAssets.pdfImages())) {
+            for (Game game : games) {
+                ScoreSheetPdfWriter scoreSheetWriter = new ScoreSheetPdfWriter(document, game);
+
+                switch (game.getKind()) {
+                    case INDOOR -> scoreSheetWriter.writeStoredIndoorGame();
+                    case BEACH -> scoreSheetWriter.writeStoredBeachGame();
+                    case INDOOR_4X4 -> scoreSheetWriter.writeStoredIndoor4x4Game();
+                    case SNOW -> scoreSheetWriter.writeStoredSnowGame();
+                }
+            }
+        }
+    }
+
+    private ScoreSheetPdfWriter(PdfDocument document, Game game) {
+        this.document = document;
+        this.game = game;
+        this.dateFormatter = DateFormat.getDateInstance(DateFormat.FULL, Locale.getDefault());
+        this.dateFormatter.setTimeZone(TimeZone.getDefault());
+        this.timeFormatter = DateFormat.getTimeInstance(DateFormat.SHORT, Locale.getDefault());
+        this.timeFormatter.setTimeZone(TimeZone.getDefault());
+        this.homeTeamColor = game.getHomeTeam().getColor();
+        this.homeLiberoColor = game.getHomeTeam().getLiberoColor();
+        this.guestTeamColor = game.getGuestTeam().getColor().equals(homeTeamColor) ? sSameColor : game.getGuestTeam().getColor();
+        this.guestLiberoColor = game.getGuestTeam().getLiberoColor();
+    }
+
+    private void writeStoredIndoorGame() throws IOException {
+        startPage();
+        writeStoredGameHeader();
+        writeStoredTeams();
+
+        for (int setIndex = 0; setIndex < game.getSets().size(); setIndex++) {
+            boolean newPage = setIndex % 2 == 1 || (setIndex == 0 && (game.getHomeTeam().getPlayers().size() > 14 || game
+                    .getGuestTeam()
+                    .getPlayers()
+                    .size() > 14)) || game.getSubstitutions(TeamType.HOME, setIndex).size() > 6 || game
+                    .getSubstitutions(TeamType.GUEST, setIndex)
+                    .size() > 6 || (game.getPoints(TeamType.HOME, setIndex) + game.getPoints(TeamType.GUEST, setIndex) > 64);
+            openSetCard(newPage);
+            writeStoredSetHeader(setIndex);
+            writeStoredSetDetails(setIndex, 4, this::writeLineup);
+            writeStoredLadder(setIndex);
+            closeCard();
+        }
+    }
+
+    private void writeStoredIndoor4x4Game() throws IOException {
+        startPage();
+        writeStoredGameHeader();
+        writeStoredTeams();
+
+        for (int setIndex = 0; setIndex < game.getSets().size(); setIndex++) {
+            boolean newPage = setIndex % 2 == 1 || (setIndex == 0 && (game.getHomeTeam().getPlayers().size() > 14 || game
+                    .getGuestTeam()
+                    .getPlayers()
+                    .size() > 14)) || game.getSubstitutions(TeamType.HOME, setIndex).size() > 6 || game
+                    .getSubstitutions(TeamType.GUEST, setIndex)
+                    .size() > 6 || (game.getPoints(TeamType.HOME, setIndex) + game.getPoints(TeamType.GUEST, setIndex) > 64);
+            openSetCard(newPage);
+            writeStoredSetHeader(setIndex);
+            writeStoredSetDetails(setIndex, 4, this::writeLineup4x4);
+            writeStoredLadder(setIndex);
+            closeCard();
+        }
+    }
+
+    private void writeStoredBeachGame() throws IOException {
+        startPage();
+        writeStoredGameHeader();
+        writeStoredTeams();
+
+        for (int setIndex = 0; setIndex < game.getSets().size(); setIndex++) {
+            openSetCard(game.getSets().size() > 2 && setIndex % 2 == 1);
+            writeStoredSetHeader(setIndex);
+            if (game.getRules().isTeamTimeouts()) {
+                writeStoredSetDetails(setIndex, 0, null);
+            }
+            writeStoredLadder(setIndex);
+            closeCard();
+        }
+    }
+
+    private void writeStoredSnowGame() throws IOException {
+        startPage();
+        writeStoredGameHeader();
+        writeStoredTeams();
+
+        for (int setIndex = 0; setIndex < game.getSets().size(); setIndex++) {
+            openSetCard(game.getSets().size() > 2 && setIndex % 2 == 1);
+            writeStoredSetHeader(setIndex);
+            writeStoredSetDetails(setIndex, 2, this::writeLineupSnow);
+            writeStoredLadder(setIndex);
+            closeCard();
+        }
+    }
+
+    private void startPage() throws IOException {
+        document.newPage();
+        y = sMargin;
+
+        String footer = "Powered by Volleyball Referee";
+        float footerWidth = PdfDocument.textWidth(footer, false, sFooterFontSize);
+        document.text(PdfDocument.PAGE_WIDTH - sMargin - footerWidth, PdfDocument.PAGE_HEIGHT - sMargin / 2f, footer, false, sFooterFontSize,
+                      sTextColor);
+    }
+
+    private float band(float height) throws IOException {
+        if (y + height > PdfDocument.PAGE_HEIGHT - sMargin - sFooterHeight && y > sMargin) {
+            startPage();
+        }
+
+        float top = y;
+        document.fillRect(sMargin, top, sContentWidth, height, sCardColor);
+        y += height;
+        return top;
+    }
+
+    private void openCard() throws IOException {
+        band(sPadding);
+    }
+
+    private void openSetCard(boolean newPage) throws IOException {
+        if (newPage && y > sMargin) {
+            startPage();
+        } else {
+            y += sSpacing;
+        }
+        openCard();
+    }
+
+    private void closeCard() throws IOException {
+        band(sPadding);
+    }
+
+    private void writeStoredGameHeader() throws IOException {
+        openCard();
+
+        float top = band(sCellHeight);
+        float[] widths = columns(sInnerWidth, 40, 20, 20, 8, 12);
+        float x = sMargin + sPadding;
+
+        Game.SelectedLeague selectedLeague = game.getLeague();
+        String league = selectedLeague == null ? "" : selectedLeague.getName() + " / " + selectedLeague.getDivision();
+        String startEndTimes = String.format("%s \u2013 %s", timeFormatter.format(new Date(game.getStartTime())),
+                                             timeFormatter.format(new Date(game.getEndTime())));
+        int duration = (int) Math.ceil((game.getEndTime() - game.getStartTime()) / 60000.0);
+
+        x += writeBorderedCell(x, top, widths[0], league, null);
+        x += writeBorderedCell(x, top, widths[1], dateFormatter.format(new Date(game.getStartTime())), null);
+        x += writeBorderedCell(x, top, widths[2], startEndTimes, null);
+        writeBorderedCell(x, top, widths[3], String.format(Locale.getDefault(), "%d min", duration), null);
+
+        writeSetsInfo(TeamType.HOME);
+        writeSetsInfo(TeamType.GUEST);
+
+        closeCard();
+    }
+
+    private void writeSetsInfo(TeamType teamType) throws IOException {
+        float top = band(sCellHeight);
+        float[] widths = columns(sInnerWidth, 40, 5, 5, 5, 5, 5, 5, 10, 20);
+        float x = sMargin + sPadding;
+        int column = 0;
+
+        x += writeBorderedCell(x, top, widths[column++], game.getTeam(teamType).getName(), teamColor(teamType));
+        x += writeBorderedCell(x, top, widths[column++], String.valueOf(TeamType.HOME.equals(teamType) ? game.getHomeSets() : game.getGuestSets()),
+                               null);
+
+        int pointsTotal = 0;
+        for (Set set : game.getSets()) {
+            int points = set.getPoints(teamType);
+            pointsTotal += points;
+            x += writeBorderedCell(x, top, widths[Math.min(column++, widths.length - 1)], String.valueOf(points), null);
+        }
+
+        writeBorderedCell(x, top, widths[Math.min(column, widths.length - 1)], String.valueOf(pointsTotal), null);
+    }
+
+    private void writeStoredTeams() throws IOException {
+        y += sSpacing;
+        openCard();
+
+        writeTitle(band(sTitleHeight), sMargin + sPadding, "Players");
+
+        List<PlayerEntry> homePlayers = listPlayers(TeamType.HOME);
+        List<PlayerEntry> guestPlayers = listPlayers(TeamType.GUEST);
+        int rows = (Math.max(homePlayers.size(), guestPlayers.size()) + 1) / 2;
+        float teamWidth = sInnerWidth * 4f / 9f;
+
+        for (int row = 0; row < rows; row++) {
+            float top = band(sRowHeight);
+            writePlayerRow(TeamType.HOME, homePlayers, row, sMargin + sPadding, top, teamWidth);
+            writePlayerRow(TeamType.GUEST, guestPlayers, row, sMargin + sPadding + sInnerWidth * 5f / 9f, top, teamWidth);
+        }
+
+        closeCard();
+    }
+
+    private List<PlayerEntry> listPlayers(TeamType teamType) {
+        List<PlayerEntry> players = new ArrayList<>();
+        Team team = game.getTeam(teamType);
+        team.getPlayers().forEach(player -> players.add(new PlayerEntry(player.getNum(), player.getName(), false)));
+        team.getLiberos().forEach(player -> players.add(new PlayerEntry(player.getNum(), player.getName(), true)));
+        return players;
+    }
+
+    private void writePlayerRow(TeamType teamType, List<PlayerEntry> players, int row, float x, float top, float width) {
+        float nameWidth = width / 2f - sColumnWidth;
+
+        for (int index = row * 2; index < Math.min(players.size(), row * 2 + 2); index++) {
+            PlayerEntry player = players.get(index);
+            float left = x + (index % 2) * width / 2f;
+            writePlayerBadge(teamType, player.num(), player.libero(), left, top);
+            writeText(left + sColumnWidth + 3f, top, nameWidth - 6f, sRowHeight, player.name(), false, sTextColor, false);
+        }
+    }
+
+    private void writeStoredSetHeader(int setIndex) throws IOException {
+        Set set = game.getSets().get(setIndex);
+        boolean sanctions = game.getRules().isSanctions();
+        int sanctionRows = sanctions ? Math.max(game.getGivenSanctions(TeamType.HOME, setIndex).size(),
+                                                game.getGivenSanctions(TeamType.GUEST, setIndex).size()) : 0;
+        float sanctionsHeight = sanctions ? sTitleHeight + sanctionRows * sSanctionHeight : 0f;
+        float top = band(Math.max(2 * sCellHeight, sanctionsHeight));
+        float x = sMargin + sPadding;
+
+        float[] infoWidths = columns(130f, 3, 1);
+        String winnerColor = set.getHomePoints() > set.getGuestPoints() ? homeTeamColor : guestTeamColor;
+        writeBorderedCell(x, top, infoWidths[0], 2 * sCellHeight, String.format(Locale.getDefault(), "Set %d", (setIndex + 1)), winnerColor);
+        writeBorderedCell(x + infoWidths[0], top, infoWidths[1], String.valueOf(set.getHomePoints()), null);
+        writeBorderedCell(x + infoWidths[0], top + sCellHeight, infoWidths[1], String.valueOf(set.getGuestPoints()), null);
+        x += 130f + sHorizontalSpace;
+
+        float[] timeWidths = columns(190f, 7, 3);
+        String startEndTimes = String.format("%s \u2013 %s", timeFormatter.format(new Date(set.getStartTime())),
+                                             timeFormatter.format(new Date(set.getEndTime())));
+        int duration = (int) Math.ceil(set.getDuration() / 60000.0);
+        writeBorderedCell(x, top, timeWidths[0], startEndTimes, null);
+        writeBorderedCell(x + timeWidths[0], top, timeWidths[1], String.format(Locale.getDefault(), "%d min", duration), null);
+        x += 190f + sHorizontalSpace;
+
+        if (sanctions) {
+            writeTitle(top, x, "Sanctions");
+            float teamWidth = sSanctionWidth + sColumnWidth + sScoreWidth;
+            writeSanctions(TeamType.HOME, setIndex, x, top + sTitleHeight);
+            writeSanctions(TeamType.GUEST, setIndex, x + teamWidth * 5f / 4f, top + sTitleHeight);
+        }
+    }
+
+    private void writeSanctions(TeamType teamType, int setIndex, float x, float top) {
+        for (Game.Sanction sanction : game.getGivenSanctions(teamType, setIndex)) {
+            int player = sanction.getNum();
+            document.image(getSanctionImage(sanction.getCard()), x, top + 1f, 32f, 16f);
+            writePlayerBadge(teamType, player, game.isLibero(teamType, player), x + sSanctionWidth, top + (sSanctionHeight - sRowHeight) / 2f);
+            writeScore(teamType, sanction.getHomePoints(), sanction.getGuestPoints(), x + sSanctionWidth + sColumnWidth,
+                       top + (sSanctionHeight - sRowHeight) / 2f);
+            top += sSanctionHeight;
+        }
+    }
+
+    private String getSanctionImage(String sanctionType) {
+        return switch (sanctionType) {
+            case "Y" -> "ic_yellow_card.png";
+            case "R" -> "ic_red_card.png";
+            case "RE" -> "ic_expulsion_card.png";
+            case "RD" -> "ic_disqualification_card.png";
+            case "DW" -> "ic_delay_warning.png";
+            default -> "ic_delay_penalty.png";
+        };
+    }
+
+    private void writeStoredSetDetails(int setIndex, int lineupRows, LineupWriter lineupWriter) throws IOException {
+        boolean lineup = lineupWriter != null;
+        boolean timeouts = game.getRules().isTeamTimeouts();
+
+        int rows = lineupRows;
+        if (lineup) {
+            rows = Math.max(rows, Math.max(game.getSubstitutions(TeamType.HOME, setIndex).size(),
+                                           game.getSubstitutions(TeamType.GUEST, setIndex).size()));
+        }
+        if (timeouts) {
+            rows = Math.max(rows, Math.max(game.getCalledTimeouts(TeamType.HOME, setIndex).size(),
+                                           game.getCalledTimeouts(TeamType.GUEST, setIndex).size()));
+        }
+
+        float top = band(sSpacing + sTitleHeight + rows * sRowHeight) + sSpacing;
+        float x = sMargin + sPadding;
+
+        if (lineup) {
+            float teamWidth = 3 * sColumnWidth;
+            writeTitle(top, x, "Starting line-up");
+            lineupWriter.write(TeamType.HOME, setIndex, x, top + sTitleHeight);
+            lineupWriter.write(TeamType.GUEST, setIndex, x + teamWidth * 5f / 4f, top + sTitleHeight);
+            x += teamWidth * 9f / 4f + sHorizontalSpace;
+        }
+
+        if (lineup) {
+            float teamWidth = 2 * sColumnWidth + 30f + sScoreWidth;
+            writeTitle(top, x, "Substitutions");
+            writeSubstitutions(TeamType.HOME, setIndex, x, top + sTitleHeight);
+            writeSubstitutions(TeamType.GUEST, setIndex, x + teamWidth * 5f / 4f, top + sTitleHeight);
+            x += teamWidth * 9f / 4f + sHorizontalSpace;
+        }
+
+        if (timeouts) {
+            float teamWidth = sColumnWidth + sScoreWidth;
+            writeTitle(top, x, "Timeouts");
+            writeTimeouts(TeamType.HOME, setIndex, x, top + sTitleHeight);
+            writeTimeouts(TeamType.GUEST, setIndex, x + teamWidth * 5f / 4f, top + sTitleHeight);
+        }
+    }
+
+    private void writeLineup(TeamType teamType, int setIndex, float x, float top) {
+        Set.Court lineup = game.isStartingLineupConfirmed(teamType, setIndex) ? game.getStartingLineup(teamType, setIndex) : null;
+        document.strokeRect(x, top, 3 * sColumnWidth, 4 * sRowHeight, sTextColor);
+
+        writeLineupRow(x, top, "IV", "III", "II");
+        writeLineupPlayers(teamType, x, top + sRowHeight, lineup == null ? null : new int[] { lineup.getP4(), lineup.getP3(), lineup.getP2() });
+        writeLineupRow(x, top + 2 * sRowHeight, "V", "VI", "I");
+        writeLineupPlayers(teamType, x, top + 3 * sRowHeight,
+                           lineup == null ? null : new int[] { lineup.getP5(), lineup.getP6(), lineup.getP1() });
+    }
+
+    private void writeLineup4x4(TeamType teamType, int setIndex, float x, float top) {
+        Set.Court lineup = game.isStartingLineupConfirmed(teamType, setIndex) ? game.getStartingLineup(teamType, setIndex) : null;
+        document.strokeRect(x, top, 3 * sColumnWidth, 4 * sRowHeight, sTextColor);
+
+        writeLineupRow(x, top, "IV", "III", "II");
+        writeLineupPlayers(teamType, x, top + sRowHeight, lineup == null ? null : new int[] { lineup.getP4(), lineup.getP3(), lineup.getP2() });
+        writeLineupRow(x + sColumnWidth, top + 2 * sRowHeight, "I");
+        writeLineupPlayers(teamType, x + sColumnWidth, top + 3 * sRowHeight, lineup == null ? new int[] { -1 } : new int[] { lineup.getP1() });
+    }
+
+    private void writeLineupSnow(TeamType teamType, int setIndex, float x, float top) {
+        Set.Court lineup = game.isStartingLineupConfirmed(teamType, setIndex) ? game.getStartingLineup(teamType, setIndex) : null;
+        document.strokeRect(x, top, 3 * sColumnWidth, 2 * sRowHeight, sTextColor);
+
+        writeLineupRow(x, top, "I", "II", "III");
+        writeLineupPlayers(teamType, x, top + sRowHeight, lineup == null ? null : new int[] { lineup.getP1(), lineup.getP2(), lineup.getP3() });
+    }
+
+    private void writeLineupRow(float x, float top, String... positions) {
+        for (String position : positions) {
+            writeText(x, top, sColumnWidth, sRowHeight, position, false, sTextColor, true);
+            x += sColumnWidth;
+        }
+    }
+
+    private void writeLineupPlayers(TeamType teamType, float x, float top, int[] players) {
+        for (int player : players == null ? new int[] { -1, -1, -1 } : players) {
+            writePlayerBadge(teamType, player, false, x, top);
+            x += sColumnWidth;
+        }
+    }
+
+    private void writeSubstitutions(TeamType teamType, int setIndex, float x, float top) {
+        for (Set.Substitution substitution : game.getSubstitutions(teamType, setIndex)) {
+            writePlayerBadge(teamType, substitution.getPlayerIn(), false, x, top);
+            document.image("ic_sub.png", x + sColumnWidth + 3f, top + 1f, 24f, 14f);
+            writePlayerBadge(teamType, substitution.getPlayerOut(), false, x + sColumnWidth + 30f, top);
+            writeScore(teamType, substitution.getHomePoints(), substitution.getGuestPoints(), x + 2 * sColumnWidth + 30f, top);
+            top += sRowHeight;
+        }
+    }
+
+    private void writeTimeouts(TeamType teamType, int setIndex, float x, float top) {
+        String color = teamColor(teamType);
+
+        for (Set.Timeout timeout : game.getCalledTimeouts(teamType, setIndex)) {
+            document.fillRoundedRect(x + sBadgeMargin, top + sBadgeMargin, sBadgeWidth, sBadgeHeight, 3f, color);
+            document.image(ScoreSheetAssets.timeoutImage(color), x + sBadgeMargin + (sBadgeWidth - 9f) / 2f, top + sBadgeMargin + 2f, 9f, 9f);
+            writeScore(teamType, timeout.getHomePoints(), timeout.getGuestPoints(), x + sColumnWidth, top);
+            top += sRowHeight;
+        }
+    }
+
+    private void writeStoredLadder(int setIndex) throws IOException {
+        Set set = game.getSets().get(setIndex);
+        float top = band(sSpacing + sTitleHeight) + sSpacing;
+        writeTitle(top, sMargin + sPadding, "Points");
+
+        List<String> ladder = set.getLadder();
+        int itemsPerRow = (int) (sInnerWidth / sColumnWidth);
+        int homeScore = 0;
+        int guestScore = 0;
+
+        for (int index = -1; index < ladder.size(); index += itemsPerRow) {
+            float rowTop = band(2 * sRowHeight + sLadderSpacing);
+            float x = sMargin + sPadding;
+
+            for (int item = index; item < Math.min(ladder.size(), index + itemsPerRow); item++) {
+                TeamType teamType;
+                String content;
+
+                if (item < 0) {
+                    teamType = "H".equals(set.getFirstServing()) ? TeamType.HOME : TeamType.GUEST;
+                    content = "S.";
+                } else if ("H".equals(ladder.get(item))) {
+                    teamType = TeamType.HOME;
+                    content = String.valueOf(++homeScore);
+                } else {
+                    teamType = TeamType.GUEST;
+                    content = String.valueOf(++guestScore);
+                }
+
+                writeBadge(x, TeamType.HOME.equals(teamType) ? rowTop : rowTop + sRowHeight, content, teamColor(teamType), false);
+                x += sColumnWidth;
+            }
+        }
+    }
+
+    private void writeTitle(float top, float x, String title) {
+        writeText(x, top, sInnerWidth, sTitleHeight, title, true, sTextColor, false);
+    }
+
+    private float writeBorderedCell(float x, float top, float width, String text, String backgroundColor) {
+        return writeBorderedCell(x, top, width, sCellHeight, text, backgroundColor);
+    }
+
+    private float writeBorderedCell(float x, float top, float width, float height, String text, String backgroundColor) {
+        if (backgroundColor != null) {
+            document.fillRect(x, top, width, height, backgroundColor);
+        }
+        document.strokeRect(x, top, width, height, sTextColor);
+        writeText(x + 3f, top, width - 6f, height, text, false,
+                  backgroundColor == null ? sTextColor : ScoreSheetAssets.textColor(backgroundColor), true);
+        return width;
+    }
+
+    private void writePlayerBadge(TeamType teamType, int player, boolean isLibero, float x, float top) {
+        String playerStr = String.valueOf(player);
+
+        if (player < 0) {
+            playerStr = "-";
+        } else if (player == 100) {
+            playerStr = "C";
+        } else if (player == 200) {
+            playerStr = "T";
+        }
+
+        String color;
+
+        if (isLibero) {
+            color = TeamType.HOME.equals(teamType) ? homeLiberoColor : guestLiberoColor;
+        } else {
+            color = teamColor(teamType);
+        }
+
+        writeBadge(x, top, playerStr, color, game.getTeam(teamType).getCaptain() == player);
+    }
+
+    private void writeBadge(float x, float top, String text, String color, boolean underlined) {
+        String textColor = ScoreSheetAssets.textColor(color);
+        document.fillRoundedRect(x + sBadgeMargin, top + sBadgeMargin, sBadgeWidth, sBadgeHeight, 3f, color);
+        float textWidth = writeText(x + sBadgeMargin, top + sBadgeMargin, sBadgeWidth, sBadgeHeight, text, false, textColor, true);
+
+        if (underlined) {
+            float center = x + sBadgeMargin + sBadgeWidth / 2f;
+            float baseline = top + sBadgeMargin + sBadgeHeight / 2f + sFontSize * 0.35f + 1.5f;
+            document.line(center - textWidth / 2f, baseline, center + textWidth / 2f, baseline, textColor);
+        }
+    }
+
+    private void writeScore(TeamType teamType, int homePoints, int guestPoints, float x, float top) {
+        String score = String.format(Locale.getDefault(), "%d-%d", TeamType.HOME.equals(teamType) ? homePoints : guestPoints,
+                                     TeamType.HOME.equals(teamType) ? guestPoints : homePoints);
+        writeText(x, top, sScoreWidth, sRowHeight, score, false, sTextColor, true);
+    }
+
+    private float writeText(float x, float top, float width, float height, String text, boolean bold, String color, boolean centered) {
+        String fittedText = fit(text == null ? "" : text, bold, width);
+        float textWidth = PdfDocument.textWidth(fittedText, bold, sFontSize);
+        float left = centered ? x + (width - textWidth) / 2f : x;
+        document.text(left, top + height / 2f + sFontSize * 0.35f, fittedText, bold, sFontSize, color);
+        return textWidth;
+    }
+
+    private String fit(String text, boolean bold, float width) {
+        if (PdfDocument.textWidth(text, bold, sFontSize) <= width) {
+            return text;
+        }
+
+        String fittedText = text;
+        while (!fittedText.isEmpty() && PdfDocument.textWidth(fittedText + "\u2026", bold, sFontSize) > width) {
+            fittedText = fittedText.substring(0, fittedText.length() - 1);
+        }
+        return fittedText + "\u2026";
+    }
+
+    private String teamColor(TeamType teamType) {
+        return TeamType.HOME.equals(teamType) ? homeTeamColor : guestTeamColor;
+    }
+
+    private float[] columns(float width, int... fractions) {
+        int total = Arrays.stream(fractions).sum();
+        float[] widths = new float[fractions.length];
+
+        for (int index = 0; index < fractions.length; index++) {
+            widths[index] = width * fractions[index] / total;
+        }
+
+        return widths;
+    }
+
+    @FunctionalInterface
+    private interface LineupWriter {
+        void write(TeamType teamType, int setIndex, float x, float top);
+    }
+
+    private record PlayerEntry(int num, String name, boolean libero) {}
+}
@@ -0,0 +1,105 @@
+package com.tonkar.volleyballreferee.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.tonkar.volleyballreferee.configuration.CacheConfiguration;
+import com.tonkar.volleyballreferee.entity.User;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.*;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.time.Instant;
+import java.util.*;
+
+@Component
+public class PrincipalCache {
+
+    private static final int sMaxTokensPerUser = 8;
+
+    private final Cache cache;
+
+    public PrincipalCache(ObjectProvider<CacheManager> cacheManager) {
+        this.cache = Optional
+                .ofNullable(cacheManager.getIfAvailable())
+                .map(manager -> manager.getCache(CacheConfiguration.PRINCIPAL_CACHE))
+                .orElseGet(() -> new NoOpCache(CacheConfiguration.PRINCIPAL_CACHE));
+    }
+
+    public Optional<User> get(String token) {
+        final String subject;
+
+        try {
+            subject = JWT.decode(token).getSubject();
+        } catch (JWTDecodeException e) {
+            return Optional.empty();
+        }
+
+        CachedPrincipal principal = subject == null ? null : cache.get(subject, CachedPrincipal.class);
+
+        if (principal == null) {
+            return Optional.empty();
+        }
+
+        byte[] digest = digestToken(token);
+        long now = Instant.now().toEpochMilli();
+
+        if (principal
+                .tokens()
+                .stream()
+                .anyMatch(cachedToken -> cachedToken.expiresAt() > now && MessageDigest.isEqual(cachedToken.digest(), digest))) {
+            return Optional.of(principal.user());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    public void put(DecodedJWT decodedJwt, User user) {
+        long expiresAt = decodedJwt.getExpiresAtAsInstant() == null ? Long.MAX_VALUE : decodedJwt.getExpiresAtAsInstant().toEpochMilli();
+        byte[] digest = digestToken(decodedJwt.getToken());
+        long now = Instant.now().toEpochMilli();
+        String key = user.getId().toString();
+
+        List<CachedToken> tokens = new ArrayList<>();
+        CachedPrincipal principal = cache.get(key, CachedPrincipal.class);
+
+        if (principal != null) {
+            principal
+                    .tokens()
+                    .stream()
+                    .filter(cachedToken -> cachedToken.expiresAt() > now && !MessageDigest.isEqual(cachedToken.digest(), digest))
+                    .forEach(tokens::add);
+        }
+
+        tokens.add(new CachedToken(digest, expiresAt));
+        tokens = tokens.subList(Math.max(0, tokens.size() - sMaxTokensPerUser), tokens.size());
+        cache.put(key, new CachedPrincipal(user, List.copyOf(tokens)));
+    }
+
+    public void evict(UUID userId) {
+        cache.evict(userId.toString());
+    }
+
+    public void evict(User user) {
+        evict(user.getId());
+
+        if (user.getFriends() != null) {
+            user.getFriends().forEach(friend -> evict(friend.getId()));
+        }
+    }
+
+    private byte[] digestToken(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedToken(byte[] digest, long expiresAt) {}
+
+    private record CachedPrincipal(User user, List<CachedToken> tokens) {}
+}
@@ -11,15 +11,16 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.UUID;
+import java.util.*;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public final class TokenAuthenticationProvider implements AuthenticationProvider {
 
-    private final AuthService authService;
-    private final UserService userService;
+    private final AuthService    authService;
+    private final UserService    userService;
+    private final PrincipalCache principalCache;
 
     @Override
     public boolean supports(Class<?> authentication) {
@@ -40,7 +41,25 @@ public final class TokenAuthenticationProvider implements AuthenticationProvider
             throw new BadCredentialsException("Unable to validate token");
         }
 
+        final String tokenType = decodedJwt.getClaim(AuthService.TOKEN_TYPE_CLAIM).asString();
+
+        if (AuthService.REFRESH_TOKEN.equals(tokenType)) {
+            throw new BadCredentialsException("Refresh tokens cannot authenticate requests");
+        }
+
         final UUID userId = UUID.fromString(decodedJwt.getSubject());
+
+        if (AuthService.ACCESS_TOKEN.equals(tokenType)) {
+            final User user = toUser(userId, decodedJwt);
+            return UsernamePasswordAuthenticationToken.authenticated(user, token, user.getAuthorities());
+        }
+
+        final Optional<User> cachedUser = principalCache.get(tokenString);
+
+        if (cachedUser.isPresent()) {
+            return UsernamePasswordAuthenticationToken.authenticated(cachedUser.get(), token, cachedUser.get().getAuthorities());
+        }
+
         final User user;
 
         try {
@@ -50,6 +69,17 @@ public final class TokenAuthenticationProvider implements AuthenticationProvider
             throw new UsernameNotFoundException("Unable to find user");
         }
 
+        principalCache.put(decodedJwt, user);
+
         return UsernamePasswordAuthenticationToken.authenticated(user, token, user.getAuthorities());
     }
-}
\ No newline at end of file
+
+    private User toUser(UUID userId, DecodedJWT decodedJwt) {
+        User user = new User();
+        user.setId(userId);
+        user.setPseudo(decodedJwt.getClaim(AuthService.PSEUDO_CLAIM).asString());
+        user.setAdmin(Boolean.TRUE.equals(decodedJwt.getClaim(AuthService.ADMIN_CLAIM).asBoolean()));
+        user.setEnabled(true);
+        return user;
+    }
+}
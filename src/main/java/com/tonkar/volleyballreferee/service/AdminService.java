@@ -1,12 +1,15 @@
 package com.tonkar.volleyballreferee.service;
 
-import com.tonkar.volleyballreferee.dao.UserDao;
+import com.tonkar.volleyballreferee.dao.*;
 import com.tonkar.volleyballreferee.dto.*;
 import com.tonkar.volleyballreferee.entity.User;
+import com.tonkar.volleyballreferee.security.PrincipalCache;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -19,20 +22,32 @@ import java.util.*;
 @Service
 public class AdminService {
 
-    private final AuthService authService;
-    private final UserService userService;
-    private final UserDao     userDao;
-    private final String      adminPseudo;
-    private final String      adminPassword;
+    private final AuthService        authService;
+    private final UserService        userService;
+    private final UserDao            userDao;
+    private final IndexDao           indexDao;
+    private final PrincipalCache     principalCache;
+    private final CacheManager       cacheManager;
+    private final MaintenanceService maintenanceService;
+    private final String             adminPseudo;
+    private final String             adminPassword;
 
     public AdminService(AuthService authService,
                         UserService userService,
                         UserDao userDao,
+                        IndexDao indexDao,
+                        PrincipalCache principalCache,
+                        CacheManager cacheManager,
+                        MaintenanceService maintenanceService,
                         @Value("${vbr.admin.pseudo}") String adminPseudo,
                         @Value("${vbr.admin.password}") String adminPassword) {
         this.authService = authService;
         this.userService = userService;
         this.userDao = userDao;
+        this.indexDao = indexDao;
+        this.principalCache = principalCache;
+        this.cacheManager = cacheManager;
+        this.maintenanceService = maintenanceService;
         this.adminPseudo = adminPseudo;
         this.adminPassword = adminPassword;
     }
@@ -67,7 +82,7 @@ public class AdminService {
                                               String.format("Found an existing user with pseudo %s", user.getPseudo()));
         }
 
-        user.setPassword(authService.getPasswordEncoder().encode(password));
+        user.setPassword(authService.encodePassword(password));
         user.setFailedAuthentication(new User.FailedAuthentication(0, Instant.now().toEpochMilli()));
         user.setEnabled(true);
         user.setAdmin(isAdmin);
@@ -87,6 +102,7 @@ public class AdminService {
 
         user.getFriends().forEach(friend -> userDao.removeFriend(friend.getId(), user.getId()));
         userDao.delete(user);
+        principalCache.evict(user);
     }
 
     public void updateUserPassword(UUID userId, String newPassword) {
@@ -95,4 +111,38 @@ public class AdminService {
 
         userService.updateUserPassword(user, newPassword);
     }
+
+    public List<IndexStatsDto> listIndexStats() {
+        return indexDao.listIndexStats();
+    }
+
+    public PasswordHashingStatsDto getPasswordHashingStats() {
+        return authService.getPasswordHashingStats();
+    }
+
+    public List<CacheStatsDto> listCacheStats() {
+        return cacheManager
+                .getCacheNames()
+                .stream()
+                .sorted()
+                .map(cacheManager::getCache)
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(cache -> {
+                    var stats = cache.getNativeCache().stats();
+                    return new CacheStatsDto(cache.getName(), cache.getNativeCache().estimatedSize(), stats.hitCount(), stats.missCount(),
+                                             stats.evictionCount(), stats.hitRate());
+                })
+                .toList();
+    }
+
+    public MaintenanceReportDto runMaintenance() {
+        return maintenanceService.runMaintenance();
+    }
+
+    public MaintenanceReportDto getLastMaintenanceReport() {
+        return maintenanceService
+                .getLastReport()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Could not find any maintenance report"));
+    }
 }
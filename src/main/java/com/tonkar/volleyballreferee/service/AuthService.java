@@ -6,59 +6,238 @@ import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.tonkar.volleyballreferee.dto.*;
 import com.tonkar.volleyballreferee.entity.User;
-import lombok.Getter;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.*;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.nio.charset.StandardCharsets;
+import java.security.*;
 import java.time.*;
-import java.util.Date;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 @Service
 public class AuthService {
 
-    @Getter
-    private final PasswordEncoder passwordEncoder;
-    private final Algorithm       signingKeyAlgorithm;
-    private final String          issuer;
-    private final Duration        tokenValidity;
+    public static final String BCRYPT_ENCODER = "bcrypt";
+    public static final String PBKDF2_ENCODER = "pbkdf2";
+
+    public static final String TOKEN_TYPE_CLAIM = "type";
+    public static final String PSEUDO_CLAIM     = "pseudo";
+    public static final String ADMIN_CLAIM      = "admin";
+    public static final String ACCESS_TOKEN     = "access";
+    public static final String REFRESH_TOKEN    = "refresh";
+
+    private final PasswordEncoder         passwordEncoder;
+    private final ThreadPoolExecutor      passwordHashingExecutor;
+    private final long                    passwordHashingTimeoutMillis;
+    private final AtomicLong              passwordHashingCount;
+    private final AtomicLong              passwordHashingRejections;
+    private final AtomicLong              passwordHashingTotalNanos;
+    private final AtomicLong              passwordHashingMaxNanos;
+    private final Algorithm               signingKeyAlgorithm;
+    private final JWTVerifier             verifier;
+    private final String                  issuer;
+    private final Duration                accessTokenValidity;
+    private final Duration                refreshTokenValidity;
+    private final Map<String, DecodedJWT> verifiedTokens;
 
     public AuthService(@Value("${vbr.jwt.key}") String jwtKey,
                        @Value("${vbr.jwt.issuer}") String issuer,
-                       @Value("${vbr.jwt.token-validity-days}") int tokenValidityDays) {
-        this.passwordEncoder = new BCryptPasswordEncoder(12);
+                       @Value("${vbr.jwt.access-token-validity-minutes}") int accessTokenValidityMinutes,
+                       @Value("${vbr.jwt.refresh-token-validity-days}") int refreshTokenValidityDays,
+                       @Value("${vbr.jwt.verified-token-cache-size}") int verifiedTokenCacheSize,
+                       @Value("${vbr.password.encoder}") String passwordEncoderId,
+                       @Value("${vbr.password.bcrypt-strength}") int bcryptStrength,
+                       @Value("${vbr.password.hashing-threads}") int passwordHashingThreads,
+                       @Value("${vbr.password.hashing-queue-capacity}") int passwordHashingQueueCapacity,
+                       @Value("${vbr.password.hashing-timeout-millis}") long passwordHashingTimeoutMillis) {
+        this.passwordEncoder = createPasswordEncoder(passwordEncoderId, bcryptStrength);
+        this.passwordHashingExecutor = new ThreadPoolExecutor(passwordHashingThreads, passwordHashingThreads, 0L, TimeUnit.MILLISECONDS,
+                                                              new ArrayBlockingQueue<>(passwordHashingQueueCapacity),
+                                                              new CustomizableThreadFactory("password-hashing-"));
+        this.passwordHashingTimeoutMillis = passwordHashingTimeoutMillis;
+        this.passwordHashingCount = new AtomicLong();
+        this.passwordHashingRejections = new AtomicLong();
+        this.passwordHashingTotalNanos = new AtomicLong();
+        this.passwordHashingMaxNanos = new AtomicLong();
         this.signingKeyAlgorithm = Algorithm.HMAC256(jwtKey.getBytes(StandardCharsets.UTF_8));
+        this.verifier = JWT.require(signingKeyAlgorithm).withIssuer(issuer).build();
         this.issuer = issuer;
-        this.tokenValidity = Duration.ofDays(tokenValidityDays);
+        this.accessTokenValidity = Duration.ofMinutes(accessTokenValidityMinutes);
+        this.refreshTokenValidity = Duration.ofDays(refreshTokenValidityDays);
+        this.verifiedTokens = verifiedTokenCacheSize > 0 ? Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DecodedJWT> eldest) {
+                return size() > verifiedTokenCacheSize;
+            }
+        }) : null;
+    }
+
+    @PreDestroy
+    public void shutdownPasswordHashing() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    public boolean matchesPassword(String password, String encodedPassword) {
+        return hashPassword(() -> passwordEncoder.matches(password, encodedPassword));
+    }
+
+    public String encodePassword(String password) {
+        return hashPassword(() -> passwordEncoder.encode(password));
+    }
+
+    public boolean isPasswordEncodingOutdated(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public PasswordHashingStatsDto getPasswordHashingStats() {
+        BlockingQueue<Runnable> queue = passwordHashingExecutor.getQueue();
+        long count = passwordHashingCount.get();
+        long averageNanos = count == 0 ? 0L : passwordHashingTotalNanos.get() / count;
+
+        return new PasswordHashingStatsDto(passwordHashingExecutor.getMaximumPoolSize(), passwordHashingExecutor.getActiveCount(),
+                                           queue.size(), queue.size() + queue.remainingCapacity(), count,
+                                           passwordHashingRejections.get(), TimeUnit.NANOSECONDS.toMillis(averageNanos),
+                                           TimeUnit.NANOSECONDS.toMillis(passwordHashingMaxNanos.get()));
+    }
+
+    private static PasswordEncoder createPasswordEncoder(String passwordEncoderId, int bcryptStrength) {
+        Map<String, PasswordEncoder> passwordEncoders = Map.of(BCRYPT_ENCODER, new BCryptPasswordEncoder(bcryptStrength), PBKDF2_ENCODER,
+                                                               Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        if (!passwordEncoders.containsKey(passwordEncoderId)) {
+            throw new IllegalArgumentException(String.format("Unsupported password encoder %s", passwordEncoderId));
+        }
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(passwordEncoderId, passwordEncoders);
+        // Hashes stored before the encoder id prefix was introduced are plain BCrypt
+        passwordEncoder.setDefaultPasswordEncoderForMatches(passwordEncoders.get(BCRYPT_ENCODER));
+        return passwordEncoder;
+    }
+
+    private <T> T hashPassword(Supplier<T> hashing) {
+        Future<T> future;
+
+        try {
+            future = passwordHashingExecutor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return hashing.get();
+                } finally {
+                    long duration = System.nanoTime() - start;
+                    passwordHashingCount.incrementAndGet();
+                    passwordHashingTotalNanos.addAndGet(duration);
+                    passwordHashingMaxNanos.accumulateAndGet(duration, Math::max);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            passwordHashingRejections.incrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many concurrent authentications, please retry later");
+        }
+
+        try {
+            return future.get(passwordHashingTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            passwordHashingRejections.incrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Authentication timed out, please retry later");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Authentication was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
     }
 
     public DecodedJWT verifyToken(String token) {
+        if (verifiedTokens == null) {
+            return verifySignedToken(token);
+        }
+
+        String digest = digestToken(token);
+        DecodedJWT decodedJwt = verifiedTokens.get(digest);
+
+        if (decodedJwt != null && decodedJwt.getToken().equals(token) && !isExpired(decodedJwt)) {
+            return decodedJwt;
+        }
+
+        verifiedTokens.remove(digest);
+        decodedJwt = verifySignedToken(token);
+        verifiedTokens.put(digest, decodedJwt);
+        return decodedJwt;
+    }
+
+    private DecodedJWT verifySignedToken(String token) {
         try {
-            JWTVerifier verifier = JWT.require(signingKeyAlgorithm).withIssuer(issuer).build();
             return verifier.verify(token);
         } catch (JWTVerificationException e) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, e.getMessage());
         }
     }
 
+    private boolean isExpired(DecodedJWT decodedJwt) {
+        return decodedJwt.getExpiresAtAsInstant() != null && !decodedJwt.getExpiresAtAsInstant().isAfter(Instant.now());
+    }
+
+    private String digestToken(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public DecodedJWT verifyRefreshToken(String token) {
+        DecodedJWT decodedJwt = verifyToken(token);
+
+        if (!REFRESH_TOKEN.equals(decodedJwt.getClaim(TOKEN_TYPE_CLAIM).asString())) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "The token is not a refresh token");
+        }
+
+        return decodedJwt;
+    }
+
     public UserTokenDto generateToken(User user) {
         ZonedDateTime iat = ZonedDateTime.now(ZoneOffset.UTC);
-        ZonedDateTime exp = iat.plus(tokenValidity);
+        ZonedDateTime accessExp = iat.plus(accessTokenValidity);
+        ZonedDateTime refreshExp = iat.plus(refreshTokenValidity);
+
+        String accessToken = JWT
+                .create()
+                .withIssuer(issuer)
+                .withSubject(user.getId().toString())
+                .withIssuedAt(iat.toInstant())
+                .withExpiresAt(accessExp.toInstant())
+                .withClaim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN)
+                .withClaim(PSEUDO_CLAIM, user.getPseudo())
+                .withClaim(ADMIN_CLAIM, user.isAdmin())
+                .sign(signingKeyAlgorithm);
 
-        String token = JWT
+        String refreshToken = JWT
                 .create()
                 .withIssuer(issuer)
                 .withSubject(user.getId().toString())
                 .withIssuedAt(iat.toInstant())
-                .withExpiresAt(exp.toInstant())
+                .withExpiresAt(refreshExp.toInstant())
+                .withClaim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN)
                 .sign(signingKeyAlgorithm);
 
-        return new UserTokenDto(token, Date.from(exp.toInstant()).getTime(),
-                                new UserSummaryDto(user.getId(), user.getPseudo(), user.isAdmin()));
+        return new UserTokenDto(accessToken, accessExp.toInstant().toEpochMilli(),
+                                new UserSummaryDto(user.getId(), user.getPseudo(), user.isAdmin()), refreshToken,
+                                refreshExp.toInstant().toEpochMilli());
     }
 
     public void validatePassword(String password) {
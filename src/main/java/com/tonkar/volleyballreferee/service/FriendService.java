@@ -3,6 +3,7 @@ package com.tonkar.volleyballreferee.service;
 import com.tonkar.volleyballreferee.dao.*;
 import com.tonkar.volleyballreferee.dto.*;
 import com.tonkar.volleyballreferee.entity.*;
+import com.tonkar.volleyballreferee.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -18,6 +19,7 @@ public class FriendService {
 
     private final UserDao          userDao;
     private final FriendRequestDao friendRequestDao;
+    private final PrincipalCache   principalCache;
 
     public CountDto getNumberOfFriendRequestsReceivedBy(User user) {
         return new CountDto(friendRequestDao.countByReceiverId(user.getId()));
@@ -32,7 +34,7 @@ public class FriendService {
     }
 
     public FriendsAndRequestsDto listFriendsAndRequests(User user) {
-        return new FriendsAndRequestsDto(user.getFriends(), friendRequestDao.findByReceiverId(user.getId()),
+        return new FriendsAndRequestsDto(userDao.findFriendsById(user.getId()), friendRequestDao.findByReceiverId(user.getId()),
                                          friendRequestDao.findBySenderId(user.getId()));
     }
 
@@ -83,6 +85,8 @@ public class FriendService {
         } else {
             userDao.addFriend(senderUser.getId(), new User.Friend(receiverUser.getId(), receiverUser.getPseudo()));
             userDao.addFriend(receiverUser.getId(), new User.Friend(senderUser.getId(), senderUser.getPseudo()));
+            principalCache.evict(senderUser.getId());
+            principalCache.evict(receiverUser.getId());
             log.info("{} and {} are now friends", senderUser.getId(), receiverUser.getId());
         }
 
@@ -97,6 +101,8 @@ public class FriendService {
         if (userDao.areFriends(user.getId(), friendId)) {
             userDao.removeFriend(user.getId(), friendId);
             userDao.removeFriend(friendId, user.getId());
+            principalCache.evict(user.getId());
+            principalCache.evict(friendId);
             log.info("{} and {} are no longer friends", user.getId(), friendId);
         } else {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, String.format("%s and %s are not friends", user.getId(), friendId));
@@ -0,0 +1,16 @@
+package com.tonkar.volleyballreferee.service;
+
+import com.tonkar.volleyballreferee.entity.Game;
+
+import java.util.UUID;
+
+public record GameChangedEvent(UUID gameId, UUID leagueId, String divisionName) {
+
+    public static GameChangedEvent of(UUID gameId, Game.SelectedLeague league) {
+        if (league == null) {
+            return new GameChangedEvent(gameId, null, null);
+        } else {
+            return new GameChangedEvent(gameId, league.getId(), league.getDivision());
+        }
+    }
+}
@@ -1,17 +1,21 @@
 package com.tonkar.volleyballreferee.service;
 
+import com.tonkar.volleyballreferee.configuration.CacheConfiguration;
 import com.tonkar.volleyballreferee.dao.*;
 import com.tonkar.volleyballreferee.dto.*;
 import com.tonkar.volleyballreferee.entity.*;
 import com.tonkar.volleyballreferee.entity.Set;
 import com.tonkar.volleyballreferee.export.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.io.IOException;
 import java.time.*;
 import java.util.*;
 
@@ -19,17 +23,29 @@ import java.util.*;
 @RequiredArgsConstructor
 public class GameService {
 
-    private final LeagueService leagueService;
-    private final TeamService   teamService;
-    private final RulesService  rulesService;
-    private final GameDao       gameDao;
-    private final TeamDao       teamDao;
-    private final RulesDao      rulesDao;
-    private final LeagueDao     leagueDao;
-    private final UserDao       userDao;
+    private static final int MAX_RALLY_EVENT_ATTEMPTS = 3;
+
+    private final LeagueService             leagueService;
+    private final TeamService               teamService;
+    private final LiveGameRegistry          liveGameRegistry;
+    private final StandingsService          standingsService;
+    private final StatisticsService         statisticsService;
+    private final ScoreSheetService         scoreSheetService;
+    private final RulesService              rulesService;
+    private final GameDao                   gameDao;
+    private final TeamDao                   teamDao;
+    private final RulesDao                  rulesDao;
+    private final LeagueDao                 leagueDao;
+    private final UserDao                   userDao;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initSearchTokens() {
+        gameDao.updateMissingSearchTokens();
+    }
 
     public Page<GameSummaryDto> listLiveGames(java.util.Set<GameType> kinds, java.util.Set<GenderType> genders, Pageable pageable) {
-        return gameDao.listLiveGames(kinds, genders, pageable);
+        return liveGameRegistry.listLiveGames(kinds, genders, pageable);
     }
 
     public Page<GameSummaryDto> listGamesMatchingToken(String token,
@@ -59,18 +75,21 @@ public class GameService {
         return gameDao.listGamesOfTeamInLeague(leagueId, teamId, statuses, pageable);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.DASHBOARDS_CACHE, key = "#leagueId", sync = true)
     public LeagueDashboardDto getGamesInLeagueGroupedByStatus(UUID leagueId) {
         return gameDao.findGamesInLeagueGroupedByStatus(leagueId);
     }
 
     public List<GameSummaryDto> listLiveGamesInLeague(UUID leagueId) {
-        return gameDao.listLiveGamesInLeague(leagueId);
+        return liveGameRegistry.listLiveGamesInLeague(leagueId);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.GAMES_CACHE, key = "'last-10:' + #leagueId", sync = true)
     public List<GameSummaryDto> listLast10GamesInLeague(UUID leagueId) {
         return gameDao.listLast10GamesInLeague(leagueId);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.GAMES_CACHE, key = "'next-10:' + #leagueId", sync = true)
     public List<GameSummaryDto> listNext10GamesInLeague(UUID leagueId) {
         return gameDao.listNext10GamesInLeague(leagueId);
     }
@@ -91,45 +110,54 @@ public class GameService {
         return gameDao.listGamesOfTeamInDivision(leagueId, divisionName, teamId, statuses, pageable);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.DASHBOARDS_CACHE, key = "#leagueId + '/' + #divisionName", sync = true)
     public LeagueDashboardDto getGamesInDivisionGroupedByStatus(UUID leagueId, String divisionName) {
         return gameDao.findGamesInDivisionGroupedByStatus(leagueId, divisionName);
     }
 
     public List<GameSummaryDto> listLiveGamesInDivision(UUID leagueId, String divisionName) {
-        return gameDao.listLiveGamesInDivision(leagueId, divisionName);
+        return liveGameRegistry.listLiveGamesInDivision(leagueId, divisionName);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.GAMES_CACHE, key = "'last-10:' + #leagueId + '/' + #divisionName", sync = true)
     public List<GameSummaryDto> listLast10GamesInDivision(UUID leagueId, String divisionName) {
         return gameDao.listLast10GamesInDivision(leagueId, divisionName);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.GAMES_CACHE, key = "'next-10:' + #leagueId + '/' + #divisionName", sync = true)
     public List<GameSummaryDto> listNext10GamesInDivision(UUID leagueId, String divisionName) {
         return gameDao.listNext10GamesInDivision(leagueId, divisionName);
     }
 
-    public Game getGame(UUID gameId) {
+    public ResourceVersionDto getGameVersion(UUID gameId) {
         return gameDao
-                .findById(gameId)
+                .findVersionById(gameId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, String.format("Could not find game %s", gameId)));
     }
 
-    public FileWrapper getScoreSheet(UUID gameId) {
-        Game game = getGame(gameId);
-        return ScoreSheetWriter.createScoreSheet(game);
+    public ResourceVersionDto getVersionOfGamesInLeague(UUID leagueId) {
+        return gameDao.findVersionOfGamesInLeague(leagueId);
+    }
+
+    public ResourceVersionDto getVersionOfGamesInDivision(UUID leagueId, String divisionName) {
+        return gameDao.findVersionOfGamesInDivision(leagueId, divisionName);
+    }
+
+    public Game getGame(UUID gameId) {
+        return gameDao
+                .findById(gameId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, String.format("Could not find game %s", gameId)));
     }
 
-    public FileWrapper listGamesInDivisionExcel(UUID leagueId, String divisionName) throws IOException {
+    public StreamingFileWrapper listGamesInDivisionExcel(UUID leagueId, String divisionName) {
         List<GameScoreDto> games = gameDao.findByLeague_IdAndLeague_DivisionAndStatusOrderByScheduledAtAsc(leagueId, divisionName,
                                                                                                            GameStatus.COMPLETED);
-        return ExcelDivisionWriter.writeExcelDivision(divisionName, games);
+        List<RankingDto> rankings = standingsService.listRankingsInDivision(leagueId, divisionName);
+        return ExcelDivisionWriter.writeExcelDivision(divisionName, games, rankings);
     }
 
     public List<RankingDto> listRankingsInDivision(UUID leagueId, String divisionName) {
-        List<GameScoreDto> games = gameDao.findByLeague_IdAndLeague_DivisionAndStatusOrderByScheduledAtAsc(leagueId, divisionName,
-                                                                                                           GameStatus.COMPLETED);
-        var rankings = new Rankings();
-        games.forEach(rankings::addGame);
-        return rankings.list();
+        return standingsService.listRankingsInDivision(leagueId, divisionName);
     }
 
     public Page<GameSummaryDto> listGames(User user,
@@ -164,7 +192,7 @@ public class GameService {
     }
 
     public GameIngredientsDto getGameIngredientsOfKind(User user, GameType kind) {
-        return new GameIngredientsDto(kind, user.getFriends(), rulesService.getDefaultRules(kind), rulesService.listRulesOfKind(user, kind),
+        return new GameIngredientsDto(kind, userDao.findFriendsById(user.getId()), rulesService.getDefaultRules(kind), rulesService.listRulesOfKind(user, kind),
                                       teamService.listTeamsOfKind(user, kind), leagueService.listLeaguesOfKind(user, kind));
     }
 
@@ -243,7 +271,9 @@ public class GameService {
 
             gameDao.save(game);
 
+            statisticsService.addGame(game);
             createOrUpdateLeagueIfNeeded(user, game);
+            eventPublisher.publishEvent(GameChangedEvent.of(game.getId(), game.getLeague()));
         }
     }
 
@@ -282,6 +312,7 @@ public class GameService {
                                                                                           gameSummary.getRulesId(), user.getId())));
 
             Game.SelectedLeague league = findOrCreateLeague(user, gameSummary);
+            Game.SelectedLeague previousLeague = savedGame.getLeague();
 
             savedGame.setUpdatedAt(Instant.now().toEpochMilli());
             savedGame.setScheduledAt(gameSummary.getScheduledAt());
@@ -306,6 +337,7 @@ public class GameService {
             gameDao.save(savedGame);
 
             createOrUpdateLeagueIfNeeded(user, savedGame);
+            publishGameChanged(savedGame, previousLeague);
         }
     }
 
@@ -320,6 +352,7 @@ public class GameService {
             }
 
             Game savedGame = optionalGame.get();
+            Game.SelectedLeague previousLeague = savedGame.getLeague();
 
             savedGame.setUpdatedAt(game.getUpdatedAt());
             savedGame.setStatus(game.getStatus());
@@ -341,6 +374,10 @@ public class GameService {
 
             gameDao.save(savedGame);
 
+            standingsService.addGame(savedGame);
+            scoreSheetService.addGame(savedGame);
+            publishGameChanged(savedGame, previousLeague);
+            publishLiveScore(savedGame);
         } else if (game.getHomeTeam().getId().equals(game.getGuestTeam().getId())) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, String.format(
                     "Could not create game %s for user %s because team %s cannot play against itself", game.getId(), user.getId(),
@@ -361,28 +398,174 @@ public class GameService {
             }
             gameDao.save(game);
 
+            statisticsService.addGame(game);
             createOrUpdateLeagueIfNeeded(user, game);
+            standingsService.addGame(game);
+            scoreSheetService.addGame(game);
+            publishGameChanged(game, null);
+            publishLiveScore(game);
+        }
+    }
+
+    public List<GameUpsertResultDto> upsertGames(User user, List<Game> games) {
+        java.util.Set<UUID> gameIds = new HashSet<>();
+
+        for (Game game : games) {
+            if (!gameIds.add(game.getId())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                                                  String.format("Could not upsert games for user %s because game %s is duplicated",
+                                                                user.getId(), game.getId()));
+            }
+        }
+
+        Map<UUID, Game> savedGames = gameDao.findStatusAndLeagueByIdInAndAllowedUser(games.stream().map(Game::getId).toList(),
+                                                                                     user.getId());
+        java.util.Set<UUID> foreignIds = gameDao.findIdsByIdIn(
+                games.stream().map(Game::getId).filter(gameId -> !savedGames.containsKey(gameId)).toList());
+        Map<UUID, java.util.Set<UUID>> friendIds = userDao.findFriendIdsByIdIn(
+                games.stream().filter(game -> !savedGames.containsKey(game.getId())).map(Game::getCreatedBy).distinct().toList());
+
+        Map<UUID, GameUpsertResultDto> results = new HashMap<>();
+        List<Game> gamesToWrite = new ArrayList<>();
+
+        for (Game game : games) {
+            Game savedGame = savedGames.get(game.getId());
+            GameStatus savedStatus = savedGame == null ? null : savedGame.getStatus();
+
+            if (GameStatus.COMPLETED.equals(savedStatus) || foreignIds.contains(game.getId())) {
+                results.put(game.getId(), new GameUpsertResultDto(game.getId(), HttpStatus.CONFLICT,
+                                                                  String.format("Could not create game %s for user %s because it already exists",
+                                                                                game.getId(), user.getId())));
+            } else if (savedStatus != null) {
+                game.setScore(buildScore(game));
+                gamesToWrite.add(game);
+            } else if (game.getHomeTeam().getId().equals(game.getGuestTeam().getId())) {
+                results.put(game.getId(), new GameUpsertResultDto(game.getId(), HttpStatus.CONFLICT, String.format(
+                        "Could not create game %s for user %s because team %s cannot play against itself", game.getId(), user.getId(),
+                        game.getHomeTeam().getId())));
+            } else if (!game.getCreatedBy().equals(game.getRefereedBy()) && !friendIds
+                    .getOrDefault(game.getCreatedBy(), java.util.Set.of())
+                    .contains(game.getRefereedBy())) {
+                results.put(game.getId(), new GameUpsertResultDto(game.getId(), HttpStatus.NOT_FOUND,
+                                                                  String.format("Could not create game %s for user %s because %s and %s are not friends",
+                                                                                game.getId(), user.getId(), game.getCreatedBy(),
+                                                                                game.getRefereedBy())));
+            } else {
+                game.setCreatedBy(user.getId());
+                game.setCreatedAt(Instant.now().toEpochMilli());
+                game.setUpdatedAt(Instant.now().toEpochMilli());
+                game.getHomeTeam().setCreatedBy(user.getId());
+                game.getGuestTeam().setCreatedBy(user.getId());
+                game.getRules().setCreatedBy(user.getId());
+                if (game.getLeague() != null) {
+                    game.getLeague().setCreatedBy(user.getId());
+                }
+                gamesToWrite.add(game);
+            }
         }
+
+        GameDao.BulkUpsertResult bulkUpsertResult = gameDao.bulkUpsert(user.getId(), gamesToWrite, savedGames.keySet());
+        Map<UUID, String> errors = bulkUpsertResult.errors();
+        Map<UUID, Game> writtenLeagues = new LinkedHashMap<>();
+
+        for (Game game : gamesToWrite) {
+            if (errors.containsKey(game.getId())) {
+                results.put(game.getId(), new GameUpsertResultDto(game.getId(), HttpStatus.CONFLICT,
+                                                                  String.format("Could not upsert game %s for user %s: %s", game.getId(),
+                                                                                user.getId(), errors.get(game.getId()))));
+            } else if (bulkUpsertResult.unmatchedIds().contains(game.getId())) {
+                results.put(game.getId(), new GameUpsertResultDto(game.getId(), HttpStatus.CONFLICT,
+                                                                  String.format("Could not update game %s for user %s because it is completed",
+                                                                                game.getId(), user.getId())));
+            } else {
+                results.put(game.getId(), new GameUpsertResultDto(game.getId(), HttpStatus.OK, null));
+                if (!savedGames.containsKey(game.getId())) {
+                    statisticsService.addGame(game);
+                }
+                standingsService.addGame(game);
+                scoreSheetService.addGame(game);
+                Game savedGame = savedGames.get(game.getId());
+                publishGameChanged(game, savedGame == null ? null : savedGame.getLeague());
+                publishLiveScore(game);
+                if (game.getLeague() != null) {
+                    writtenLeagues.putIfAbsent(game.getLeague().getId(), game);
+                }
+            }
+        }
+
+        writtenLeagues.values().forEach(game -> createOrUpdateLeagueIfNeeded(user, game));
+
+        return games.stream().map(game -> results.get(game.getId())).toList();
     }
 
     public void updateSet(User user, UUID gameId, int setIndex, Set set) {
-        Game savedGame = gameDao
-                .findByIdAndAllowedUserAndStatus(gameId, user.getId(), GameStatus.LIVE)
+        GameScoreDto savedScore = gameDao
+                .findScoreByIdAndAllowedUserAndStatus(gameId, user.getId(), GameStatus.LIVE)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                                                                String.format("Could not find game %s for user %s", gameId, user.getId())));
 
-        if (setIndex > 0 && setIndex <= savedGame.getSets().size()) {
-            savedGame.getSets().set(setIndex - 1, set);
-            savedGame.setUpdatedAt(Instant.now().toEpochMilli());
-            savedGame.setScore(buildScore(savedGame));
-            gameDao.save(savedGame);
+        if (setIndex > 0 && setIndex <= savedScore.getSets().size()) {
+            List<SetSummaryDto> sets = new ArrayList<>(savedScore.getSets());
+            sets.set(setIndex - 1, new SetSummaryDto(set.getHomePoints(), set.getGuestPoints()));
+
+            if (!gameDao.updateSet(gameId, user.getId(), setIndex - 1, set, buildScore(sets), Instant.now().toEpochMilli())) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                                                  String.format("Could not find set %d of game %s for user %s", setIndex, gameId,
+                                                                user.getId()));
+            }
+
+            eventPublisher.publishEvent(GameChangedEvent.of(gameId, savedScore.getLeague()));
+            eventPublisher.publishEvent(
+                    new LiveScoreDto(gameId, setIndex, set.getHomePoints(), set.getGuestPoints(), savedScore.getHomeSets(),
+                                     savedScore.getGuestSets(), GameStatus.LIVE));
         } else {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND,
-                                              String.format("Could not find set %d of game %s for user %s", setIndex, savedGame.getId(),
+                                              String.format("Could not find set %d of game %s for user %s", setIndex, gameId,
                                                             user.getId()));
         }
     }
 
+    public void addRallyEvent(User user, UUID gameId, int setIndex, RallyEventDto event) {
+        for (int attempt = 0; attempt < MAX_RALLY_EVENT_ATTEMPTS; attempt++) {
+            Game savedGame = gameDao
+                    .findSetCountersByIdAndAllowedUserAndStatus(gameId, user.getId(), GameStatus.LIVE)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                                                                   String.format("Could not find game %s for user %s", gameId,
+                                                                                 user.getId())));
+
+            if (setIndex <= 0 || setIndex > savedGame.getSets().size()) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                                                  String.format("Could not find set %d of game %s for user %s", setIndex, gameId,
+                                                                user.getId()));
+            }
+
+            Set savedSet = savedGame.getSets().get(setIndex - 1);
+            checkRallyEvent(user, gameId, setIndex, savedSet, event);
+
+            List<SetSummaryDto> sets = new ArrayList<>(
+                    savedGame.getSets().stream().map(s -> new SetSummaryDto(s.getHomePoints(), s.getGuestPoints())).toList());
+            if (RallyEventType.POINT.equals(event.type())) {
+                boolean home = TeamType.HOME.equals(event.teamType());
+                sets.set(setIndex - 1, new SetSummaryDto(savedSet.getHomePoints() + (home ? 1 : 0),
+                                                         savedSet.getGuestPoints() + (home ? 0 : 1)));
+            }
+
+            if (gameDao.addRallyEvent(gameId, user.getId(), setIndex - 1, savedSet, event, buildScore(sets),
+                                      Instant.now().toEpochMilli())) {
+                SetSummaryDto set = sets.get(setIndex - 1);
+                eventPublisher.publishEvent(GameChangedEvent.of(gameId, savedGame.getLeague()));
+                eventPublisher.publishEvent(
+                        new LiveScoreDto(gameId, setIndex, set.homePoints(), set.guestPoints(), savedGame.getHomeSets(),
+                                         savedGame.getGuestSets(), GameStatus.LIVE));
+                return;
+            }
+        }
+
+        throw new ResponseStatusException(HttpStatus.CONFLICT,
+                                          String.format("Could not add %s to set %d of game %s for user %s because it was modified concurrently",
+                                                        event.type(), setIndex, gameId, user.getId()));
+    }
+
     public void setReferee(User user, UUID gameId, UUID refereeUserId) {
         Game game = gameDao
                 .findByIdAndCreatedByAndStatusNot(gameId, user.getId(), GameStatus.COMPLETED)
@@ -391,25 +574,72 @@ public class GameService {
         if (user.getId().equals(refereeUserId)) {
             gameDao.updateReferee(game.getId(), user.getId(), user.getPseudo(), Instant.now().toEpochMilli());
         } else {
-            User.Friend friend = user
-                    .getFriend(refereeUserId)
+            User.Friend friend = userDao
+                    .findFriendsById(user.getId())
+                    .stream()
+                    .filter(f -> f.getId().equals(refereeUserId))
+                    .findFirst()
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                                                                    String.format("Could not find referee %s in friends for user %s", gameId,
                                                                                  user.getId())));
             gameDao.updateReferee(game.getId(), friend.getId(), friend.getPseudo(), Instant.now().toEpochMilli());
         }
+
+        eventPublisher.publishEvent(GameChangedEvent.of(game.getId(), game.getLeague()));
     }
 
     public void deleteGame(User user, UUID gameId) {
-        gameDao.deleteByIdAndCreatedBy(gameId, user.getId());
+        Optional<Game> deletedGame = gameDao.findAndRemoveByIdAndCreatedBy(gameId, user.getId());
+        deletedGame.ifPresent(standingsService::removeGame);
+        deletedGame.ifPresent(statisticsService::removeGame);
+        deletedGame.ifPresent(scoreSheetService::removeGame);
+        eventPublisher.publishEvent(GameChangedEvent.of(gameId, deletedGame.map(Game::getLeague).orElse(null)));
     }
 
     public void deleteAllGames(User user) {
+        List<UUID> leagueIds = gameDao.findLeagueIdsByCreatedByAndStatus(user.getId(), GameStatus.COMPLETED);
         gameDao.deleteByCreatedByAndStatus(user.getId(), GameStatus.COMPLETED);
+        statisticsService.refreshUserStatistics(user.getId());
+        scoreSheetService.removeGames(user.getId());
+        standingsService.removeLeagues(leagueIds);
+        leagueIds.forEach(leagueId -> eventPublisher.publishEvent(new LeagueChangedEvent(leagueId)));
     }
 
     public void deleteAllGamesInLeague(User user, UUID leagueId) {
         gameDao.deleteByCreatedByAndStatusAndLeague_Id(user.getId(), GameStatus.COMPLETED, leagueId);
+        statisticsService.refreshUserStatistics(user.getId());
+        scoreSheetService.removeGamesInLeague(user.getId(), leagueId);
+        standingsService.removeLeagues(List.of(leagueId));
+        eventPublisher.publishEvent(new LeagueChangedEvent(leagueId));
+    }
+
+    private void checkRallyEvent(User user, UUID gameId, int setIndex, Set savedSet, RallyEventDto event) {
+        switch (event.type()) {
+            case TIMEOUT -> {
+                if (savedSet.getTimeouts(event.teamType()) <= 0) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT, String.format(
+                            "Could not add timeout to set %d of game %s for user %s because %s team has no timeout left", setIndex,
+                            gameId, user.getId(), event.teamType()));
+                }
+            }
+            case SUBSTITUTION -> {
+                Set.Court court = savedSet.getCurrentPlayers(event.teamType());
+                if (court == null || court.getPosition(event.playerOut()) == 0) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT, String.format(
+                            "Could not add substitution to set %d of game %s for user %s because player %d is not on court", setIndex,
+                            gameId, user.getId(), event.playerOut()));
+                }
+            }
+            case SANCTION -> {
+                if (event.card() == null || event.card().isBlank()) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                                                      String.format("Could not add sanction to set %d of game %s for user %s without card",
+                                                                    setIndex, gameId, user.getId()));
+                }
+            }
+            default -> {
+            }
+        }
     }
 
     private Optional<Rules> findRules(User user, UUID rulesId, GameType kind) {
@@ -471,6 +701,7 @@ public class GameService {
                 league.getDivisions().add(selectedLeague.getDivision());
 
                 leagueService.createLeague(user, league);
+                leagueService.updateDivisions(user, league.getId());
             }
         }
     }
@@ -487,11 +718,33 @@ public class GameService {
         return selectedLeague;
     }
 
+    private void publishGameChanged(Game game, Game.SelectedLeague previousLeague) {
+        eventPublisher.publishEvent(GameChangedEvent.of(game.getId(), game.getLeague()));
+
+        GameChangedEvent previousEvent = GameChangedEvent.of(game.getId(), previousLeague);
+
+        if (previousLeague != null && !previousEvent.equals(GameChangedEvent.of(game.getId(), game.getLeague()))) {
+            eventPublisher.publishEvent(previousEvent);
+        }
+    }
+
+    private void publishLiveScore(Game game) {
+        int setIndex = game.getSets().size();
+        Set set = setIndex > 0 ? game.getSets().get(setIndex - 1) : null;
+        eventPublisher.publishEvent(new LiveScoreDto(game.getId(), setIndex, set == null ? 0 : set.getHomePoints(),
+                                                     set == null ? 0 : set.getGuestPoints(), game.getHomeSets(), game.getGuestSets(),
+                                                     game.getStatus()));
+    }
+
     private String buildScore(Game game) {
+        return buildScore(game.getSets().stream().map(set -> new SetSummaryDto(set.getHomePoints(), set.getGuestPoints())).toList());
+    }
+
+    private String buildScore(List<SetSummaryDto> sets) {
         StringBuilder scoreBuilder = new StringBuilder();
 
-        for (Set set : game.getSets()) {
-            scoreBuilder.append(String.format("%d-%d\t\t", set.getHomePoints(), set.getGuestPoints()));
+        for (SetSummaryDto set : sets) {
+            scoreBuilder.append(String.format("%d-%d\t\t", set.homePoints(), set.guestPoints()));
         }
 
         return scoreBuilder.toString().trim();
@@ -0,0 +1,63 @@
+package com.tonkar.volleyballreferee.service;
+
+import com.tonkar.volleyballreferee.configuration.CacheConfiguration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.*;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Component
+@RequiredArgsConstructor
+public class LeagueCacheEvictor {
+
+    private static final List<String> sLeagueCaches = List.of(CacheConfiguration.LEAGUES_CACHE, CacheConfiguration.DASHBOARDS_CACHE,
+                                                              CacheConfiguration.TEAMS_CACHE, CacheConfiguration.GAMES_CACHE,
+                                                              CacheConfiguration.RANKINGS_CACHE);
+
+    private final CacheManager cacheManager;
+
+    @EventListener
+    public void onGameChanged(GameChangedEvent event) {
+        if (event.leagueId() == null) {
+            return;
+        }
+
+        UUID leagueKey = event.leagueId();
+        String divisionKey = event.leagueId() + "/" + event.divisionName();
+
+        evict(CacheConfiguration.LEAGUES_CACHE, leagueKey);
+        evict(CacheConfiguration.DASHBOARDS_CACHE, leagueKey, divisionKey);
+        evict(CacheConfiguration.TEAMS_CACHE, leagueKey, divisionKey);
+        evict(CacheConfiguration.RANKINGS_CACHE, divisionKey);
+        evict(CacheConfiguration.GAMES_CACHE, "next-10:" + leagueKey, "last-10:" + leagueKey, "next-10:" + divisionKey,
+              "last-10:" + divisionKey);
+    }
+
+    @EventListener
+    public void onLeagueChanged(LeagueChangedEvent event) {
+        String leagueKey = event.leagueId().toString();
+
+        for (String cacheName : sLeagueCaches) {
+            Cache cache = cacheManager.getCache(cacheName);
+
+            if (cache instanceof CaffeineCache caffeineCache) {
+                caffeineCache.getNativeCache().asMap().keySet().removeIf(key -> key.toString().contains(leagueKey));
+            } else if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private void evict(String cacheName, Object... keys) {
+        Cache cache = cacheManager.getCache(cacheName);
+
+        if (cache != null) {
+            for (Object key : keys) {
+                cache.evict(key);
+            }
+        }
+    }
+}
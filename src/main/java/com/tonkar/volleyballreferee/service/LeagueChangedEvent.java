@@ -0,0 +1,5 @@
+package com.tonkar.volleyballreferee.service;
+
+import java.util.UUID;
+
+public record LeagueChangedEvent(UUID leagueId) {}
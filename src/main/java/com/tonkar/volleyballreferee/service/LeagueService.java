@@ -1,9 +1,12 @@
 package com.tonkar.volleyballreferee.service;
 
+import com.tonkar.volleyballreferee.configuration.CacheConfiguration;
 import com.tonkar.volleyballreferee.dao.*;
 import com.tonkar.volleyballreferee.dto.*;
 import com.tonkar.volleyballreferee.entity.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -16,15 +19,23 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class LeagueService {
 
-    private final LeagueDao leagueDao;
-    private final GameDao   gameDao;
+    private final LeagueDao                 leagueDao;
+    private final GameDao                   gameDao;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Cacheable(cacheNames = CacheConfiguration.LEAGUES_CACHE, key = "#leagueId", sync = true)
     public League getLeague(UUID leagueId) {
         return leagueDao
                 .findById(leagueId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, String.format("Could not find league %s", leagueId)));
     }
 
+    public ResourceVersionDto getLeagueVersion(UUID leagueId) {
+        return leagueDao
+                .findVersionById(leagueId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, String.format("Could not find league %s", leagueId)));
+    }
+
     public List<LeagueSummaryDto> listLeagues(User user, Set<GameType> kinds) {
         return leagueDao.listLeagues(user.getId(), kinds);
     }
@@ -58,6 +69,7 @@ public class LeagueService {
             league.setCreatedBy(user.getId());
             league.setUpdatedAt(Instant.now().toEpochMilli());
             leagueDao.save(league);
+            eventPublisher.publishEvent(new LeagueChangedEvent(league.getId()));
         }
     }
 
@@ -71,6 +83,7 @@ public class LeagueService {
         savedLeague.setDivisions(gameDao.listDivisionsInLeague(user.getId(), savedLeague.getId()));
         savedLeague.setUpdatedAt(Instant.now().toEpochMilli());
         leagueDao.save(savedLeague);
+        eventPublisher.publishEvent(new LeagueChangedEvent(leagueId));
     }
 
     public void deleteLeague(User user, UUID leagueId) {
@@ -80,6 +93,7 @@ public class LeagueService {
                                                             user.getId()));
         } else {
             leagueDao.deleteByIdAndCreatedBy(leagueId, user.getId());
+            eventPublisher.publishEvent(new LeagueChangedEvent(leagueId));
         }
     }
 
@@ -87,6 +101,7 @@ public class LeagueService {
         leagueDao.listLeagues(user.getId(), Set.of(GameType.values())).forEach(leagueSummary -> {
             if (!gameDao.existsByCreatedByAndLeague_IdAndStatus(user.getId(), leagueSummary.getId(), GameStatus.SCHEDULED)) {
                 leagueDao.deleteByIdAndCreatedBy(leagueSummary.getId(), user.getId());
+                eventPublisher.publishEvent(new LeagueChangedEvent(leagueSummary.getId()));
             }
         });
     }
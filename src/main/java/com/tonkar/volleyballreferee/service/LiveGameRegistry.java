@@ -0,0 +1,256 @@
+package com.tonkar.volleyballreferee.service;
+
+import com.mongodb.client.model.changestream.*;
+import com.tonkar.volleyballreferee.dao.*;
+import com.tonkar.volleyballreferee.dto.*;
+import com.tonkar.volleyballreferee.entity.*;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.messaging.*;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+@Slf4j
+@Service
+public class LiveGameRegistry {
+
+    private static final Comparator<GameSummaryDto> sScheduledAtDescending = Comparator
+            .comparingLong(GameSummaryDto::getScheduledAt)
+            .reversed()
+            .thenComparing(GameSummaryDto::getId);
+
+    private final GameDao                                              gameDao;
+    private final boolean                                              changeStreamEnabled;
+    private final Map<UUID, GameSummaryDto>                            games;
+    private final Map<KindAndGender, NavigableSet<GameSummaryDto>>     gamesByKindAndGender;
+    private final Map<UUID, NavigableSet<GameSummaryDto>>              gamesByLeague;
+    private final Map<LeagueAndDivision, NavigableSet<GameSummaryDto>> gamesByDivision;
+    private volatile Subscription                                      subscription;
+
+    public LiveGameRegistry(GameDao gameDao, @Value("${vbr.live.change-stream-enabled}") boolean changeStreamEnabled) {
+        this.gameDao = gameDao;
+        this.changeStreamEnabled = changeStreamEnabled;
+        this.games = new ConcurrentHashMap<>();
+        this.gamesByKindAndGender = new ConcurrentHashMap<>();
+        this.gamesByLeague = new ConcurrentHashMap<>();
+        this.gamesByDivision = new ConcurrentHashMap<>();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (changeStreamEnabled) {
+            Subscription previousSubscription = subscription;
+            if (previousSubscription != null) {
+                previousSubscription.cancel();
+            }
+            subscription = gameDao.watchGames(this::onChange, this::onChangeStreamError);
+        }
+        reload();
+    }
+
+    @EventListener
+    public void onGameChanged(GameChangedEvent event) {
+        if (!isChangeStreamActive()) {
+            gameDao.findSummaryById(event.gameId()).ifPresentOrElse(this::put, () -> remove(event.gameId()));
+        }
+    }
+
+    public PageDto<GameSummaryDto> listLiveGames(java.util.Set<GameType> kinds, java.util.Set<GenderType> genders, Pageable pageable) {
+        List<NavigableSet<GameSummaryDto>> indexes = new ArrayList<>();
+        for (GameType kind : DaoUtils.computeKinds(kinds)) {
+            for (GenderType gender : DaoUtils.computeGenders(genders)) {
+                NavigableSet<GameSummaryDto> index = gamesByKindAndGender.get(new KindAndGender(kind, gender));
+                if (index != null && !index.isEmpty()) {
+                    indexes.add(index);
+                }
+            }
+        }
+
+        long total = indexes.stream().mapToLong(NavigableSet::size).sum();
+        List<GameSummaryDto> page = merge(indexes, pageable.getOffset(), pageable.getPageSize());
+        return new PageDto<>(page, pageable, total);
+    }
+
+    public List<GameSummaryDto> listLiveGamesInLeague(UUID leagueId) {
+        return List.copyOf(gamesByLeague.getOrDefault(leagueId, Collections.emptyNavigableSet()));
+    }
+
+    public List<GameSummaryDto> listLiveGamesInDivision(UUID leagueId, String divisionName) {
+        return List.copyOf(gamesByDivision.getOrDefault(new LeagueAndDivision(leagueId, divisionName), Collections.emptyNavigableSet()));
+    }
+
+    boolean isChangeStreamActive() {
+        Subscription currentSubscription = subscription;
+        return currentSubscription != null && currentSubscription.isActive();
+    }
+
+    private void onChange(Message<ChangeStreamDocument<Document>, Game> message) {
+        ChangeStreamDocument<Document> change = message.getRaw();
+
+        if (change == null || change.getDocumentKey() == null) {
+            return;
+        }
+
+        BsonBinary key = change.getDocumentKey().getBinary(DaoUtils._id);
+        UUID gameId = key.getType() == BsonBinarySubType.UUID_STANDARD.getValue() ? key.asUuid() : key.asUuid(UuidRepresentation.JAVA_LEGACY);
+        Game game = message.getBody();
+
+        if (OperationType.DELETE.equals(change.getOperationType()) || game == null) {
+            remove(gameId);
+        } else {
+            put(toSummary(game));
+        }
+    }
+
+    private void onChangeStreamError(Throwable throwable) {
+        log.warn("Live game change stream is unavailable, falling back to local events: {}", throwable.getMessage());
+        Subscription currentSubscription = subscription;
+        subscription = null;
+        if (currentSubscription != null) {
+            currentSubscription.cancel();
+        }
+        reload();
+    }
+
+    private synchronized void reload() {
+        games.clear();
+        gamesByKindAndGender.clear();
+        gamesByLeague.clear();
+        gamesByDivision.clear();
+        gameDao.listGamesWithStatus(GameStatus.LIVE).forEach(this::put);
+        log.info("Loaded {} live games", games.size());
+    }
+
+    private synchronized void put(GameSummaryDto game) {
+        remove(game.getId());
+
+        if (GameStatus.LIVE.equals(game.getStatus())) {
+            games.put(game.getId(), game);
+            index(gamesByKindAndGender, new KindAndGender(game.getKind(), game.getGender())).add(game);
+            if (game.getLeagueId() != null) {
+                index(gamesByLeague, game.getLeagueId()).add(game);
+                index(gamesByDivision, new LeagueAndDivision(game.getLeagueId(), game.getDivisionName())).add(game);
+            }
+        }
+    }
+
+    private synchronized void remove(UUID gameId) {
+        GameSummaryDto game = games.remove(gameId);
+
+        if (game != null) {
+            unindex(gamesByKindAndGender, new KindAndGender(game.getKind(), game.getGender()), game);
+            if (game.getLeagueId() != null) {
+                unindex(gamesByLeague, game.getLeagueId(), game);
+                unindex(gamesByDivision, new LeagueAndDivision(game.getLeagueId(), game.getDivisionName()), game);
+            }
+        }
+    }
+
+    private static <K> NavigableSet<GameSummaryDto> index(Map<K, NavigableSet<GameSummaryDto>> indexes, K key) {
+        return indexes.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>(sScheduledAtDescending));
+    }
+
+    private static <K> void unindex(Map<K, NavigableSet<GameSummaryDto>> indexes, K key, GameSummaryDto game) {
+        NavigableSet<GameSummaryDto> index = indexes.get(key);
+        if (index != null) {
+            index.remove(game);
+            if (index.isEmpty()) {
+                indexes.remove(key);
+            }
+        }
+    }
+
+    private static List<GameSummaryDto> merge(List<NavigableSet<GameSummaryDto>> indexes, long offset, int size) {
+        PriorityQueue<PeekingIterator> iterators = new PriorityQueue<>(Comparator.comparing(PeekingIterator::peek, sScheduledAtDescending));
+        indexes.stream().map(index -> new PeekingIterator(index.iterator())).filter(PeekingIterator::hasNext).forEach(iterators::add);
+
+        List<GameSummaryDto> page = new ArrayList<>(size);
+        long position = 0;
+
+        while (!iterators.isEmpty() && page.size() < size) {
+            PeekingIterator iterator = iterators.poll();
+            GameSummaryDto game = iterator.next();
+            if (position++ >= offset) {
+                page.add(game);
+            }
+            if (iterator.hasNext()) {
+                iterators.add(iterator);
+            }
+        }
+
+        return page;
+    }
+
+    private static GameSummaryDto toSummary(Game game) {
+        GameSummaryDto gameSummary = new GameSummaryDto();
+        gameSummary.setId(game.getId());
+        gameSummary.setCreatedBy(game.getCreatedBy());
+        gameSummary.setCreatedAt(game.getCreatedAt());
+        gameSummary.setUpdatedAt(game.getUpdatedAt());
+        gameSummary.setScheduledAt(game.getScheduledAt());
+        gameSummary.setRefereedBy(game.getRefereedBy());
+        gameSummary.setRefereeName(game.getRefereeName());
+        gameSummary.setKind(game.getKind());
+        gameSummary.setGender(game.getGender());
+        gameSummary.setUsage(game.getUsage());
+        gameSummary.setStatus(game.getStatus());
+        if (game.getLeague() != null) {
+            gameSummary.setLeagueId(game.getLeague().getId());
+            gameSummary.setLeagueName(game.getLeague().getName());
+            gameSummary.setDivisionName(game.getLeague().getDivision());
+        }
+        if (game.getHomeTeam() != null) {
+            gameSummary.setHomeTeamId(game.getHomeTeam().getId());
+            gameSummary.setHomeTeamName(game.getHomeTeam().getName());
+        }
+        if (game.getGuestTeam() != null) {
+            gameSummary.setGuestTeamId(game.getGuestTeam().getId());
+            gameSummary.setGuestTeamName(game.getGuestTeam().getName());
+        }
+        gameSummary.setHomeSets(game.getHomeSets());
+        gameSummary.setGuestSets(game.getGuestSets());
+        if (game.getRules() != null) {
+            gameSummary.setRulesId(game.getRules().getId());
+            gameSummary.setRulesName(game.getRules().getName());
+        }
+        gameSummary.setScore(game.getScore());
+        gameSummary.setReferee1Name(game.getReferee1());
+        gameSummary.setReferee2Name(game.getReferee2());
+        gameSummary.setScorerName(game.getScorer());
+        return gameSummary;
+    }
+
+    private record KindAndGender(GameType kind, GenderType gender) {}
+
+    private record LeagueAndDivision(UUID leagueId, String divisionName) {}
+
+    private static class PeekingIterator {
+        private final Iterator<GameSummaryDto> iterator;
+        private       GameSummaryDto           next;
+
+        private PeekingIterator(Iterator<GameSummaryDto> iterator) {
+            this.iterator = iterator;
+            this.next = iterator.hasNext() ? iterator.next() : null;
+        }
+
+        private boolean hasNext() {
+            return next != null;
+        }
+
+        private GameSummaryDto peek() {
+            return next;
+        }
+
+        private GameSummaryDto next() {
+            GameSummaryDto current = next;
+            next = iterator.hasNext() ? iterator.next() : null;
+            return current;
+        }
+    }
+}
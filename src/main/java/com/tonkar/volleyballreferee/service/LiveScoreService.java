@@ -0,0 +1,195 @@
+package com.tonkar.volleyballreferee.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tonkar.volleyballreferee.dto.LiveScoreDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+public class LiveScoreService {
+
+    private final ObjectMapper                        objectMapper;
+    private final long                                emitterTimeout;
+    private final int                                 emitterQueueSize;
+    private final Set<LiveScoreSubscriber>            liveGamesSubscribers;
+    private final Map<UUID, Set<LiveScoreSubscriber>> gameSubscribers;
+    private final ScheduledExecutorService            broadcastExecutor;
+    private final ExecutorService                     sendExecutor;
+
+    public LiveScoreService(ObjectMapper objectMapper,
+                            @Value("${vbr.live.emitter-timeout-minutes}") int emitterTimeoutMinutes,
+                            @Value("${vbr.live.emitter-queue-size}") int emitterQueueSize,
+                            @Value("${vbr.live.send-threads}") int sendThreads,
+                            @Value("${vbr.live.heartbeat-seconds}") int heartbeatSeconds) {
+        this.objectMapper = objectMapper;
+        this.emitterTimeout = Duration.ofMinutes(emitterTimeoutMinutes).toMillis();
+        this.emitterQueueSize = emitterQueueSize;
+        this.liveGamesSubscribers = ConcurrentHashMap.newKeySet();
+        this.gameSubscribers = new ConcurrentHashMap<>();
+        this.broadcastExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-score-broadcast");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sendExecutor = Executors.newFixedThreadPool(sendThreads, runnable -> {
+            Thread thread = new Thread(runnable, "live-score-send");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.broadcastExecutor.scheduleAtFixedRate(this::sendHeartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    public SseEmitter subscribeToLiveGames() {
+        LiveScoreSubscriber subscriber = new LiveScoreSubscriber(liveGamesSubscribers::remove);
+        liveGamesSubscribers.add(subscriber);
+        return subscriber.emitter;
+    }
+
+    public SseEmitter subscribeToGame(UUID gameId) {
+        LiveScoreSubscriber subscriber = new LiveScoreSubscriber(removedSubscriber -> removeGameSubscriber(gameId, removedSubscriber));
+        gameSubscribers.compute(gameId, (id, subscribers) -> {
+            Set<LiveScoreSubscriber> newSubscribers = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            newSubscribers.add(subscriber);
+            return newSubscribers;
+        });
+        return subscriber.emitter;
+    }
+
+    @EventListener
+    public void onLiveScore(LiveScoreDto liveScore) {
+        broadcastExecutor.execute(() -> broadcast(liveScore));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        broadcastExecutor.shutdownNow();
+        sendExecutor.shutdownNow();
+        liveGamesSubscribers.forEach(LiveScoreSubscriber::complete);
+        gameSubscribers.values().forEach(subscribers -> subscribers.forEach(LiveScoreSubscriber::complete));
+    }
+
+    private void removeGameSubscriber(UUID gameId, LiveScoreSubscriber subscriber) {
+        gameSubscribers.computeIfPresent(gameId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private void broadcast(LiveScoreDto liveScore) {
+        Set<LiveScoreSubscriber> subscribersOfGame = gameSubscribers.get(liveScore.gameId());
+
+        if (liveGamesSubscribers.isEmpty() && subscribersOfGame == null) {
+            return;
+        }
+
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter
+                    .event()
+                    .name("score")
+                    .data(objectMapper.writeValueAsString(liveScore))
+                    .build();
+            send(liveGamesSubscribers, event);
+
+            if (subscribersOfGame != null) {
+                send(subscribersOfGame, event);
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize live score of game {}", liveScore.gameId(), e);
+        }
+    }
+
+    private void sendHeartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+        send(liveGamesSubscribers, heartbeat);
+        gameSubscribers.values().forEach(subscribers -> send(subscribers, heartbeat));
+    }
+
+    private void send(Set<LiveScoreSubscriber> subscribers, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        subscribers.removeIf(subscriber -> !subscriber.offer(event));
+    }
+
+    private class LiveScoreSubscriber {
+
+        private final    SseEmitter                                                emitter;
+        private final    BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> events;
+        private final    AtomicBoolean                                             draining;
+        private final    AtomicBoolean                                             completed;
+        private volatile boolean                                                   dropped;
+        private volatile Exception                                                 failure;
+
+        private LiveScoreSubscriber(Consumer<LiveScoreSubscriber> onEnd) {
+            this.emitter = new SseEmitter(emitterTimeout);
+            this.events = new ArrayBlockingQueue<>(emitterQueueSize);
+            this.draining = new AtomicBoolean(false);
+            this.completed = new AtomicBoolean(false);
+            this.emitter.onCompletion(() -> onEnd.accept(this));
+            this.emitter.onTimeout(() -> onEnd.accept(this));
+            this.emitter.onError(e -> onEnd.accept(this));
+        }
+
+        private boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (!dropped && !events.offer(event)) {
+                log.debug("Dropping live score subscriber after {} pending events", emitterQueueSize);
+                dropped = true;
+            }
+
+            scheduleDrain();
+            return !dropped;
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sendExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> event;
+
+                while (!dropped && (event = events.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                failure = e;
+                dropped = true;
+            } finally {
+                draining.set(false);
+            }
+
+            if (dropped) {
+                events.clear();
+                complete();
+            } else if (!events.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void complete() {
+            if (completed.compareAndSet(false, true)) {
+                if (failure == null) {
+                    emitter.complete();
+                } else {
+                    emitter.completeWithError(failure);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.tonkar.volleyballreferee.service;
+
+import com.tonkar.volleyballreferee.dao.*;
+import com.tonkar.volleyballreferee.dto.MaintenanceReportDto;
+import com.tonkar.volleyballreferee.entity.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class MaintenanceService {
+
+    private final GameDao                               gameDao;
+    private final FriendRequestDao                      friendRequestDao;
+    private final UserDao                               userDao;
+    private final StatisticsService                     statisticsService;
+    private final ApplicationEventPublisher             eventPublisher;
+    private final boolean                               enabled;
+    private final Duration                              staleGameAge;
+    private final int                                   batchSize;
+    private final long                                  batchPauseMillis;
+    private final long                                  maxDocuments;
+    private final Duration                              maxDuration;
+    private final AtomicReference<MaintenanceReportDto> lastReport;
+
+    public MaintenanceService(GameDao gameDao,
+                              FriendRequestDao friendRequestDao,
+                              UserDao userDao,
+                              StatisticsService statisticsService,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${vbr.maintenance.enabled}") boolean enabled,
+                              @Value("${vbr.maintenance.stale-game-days}") int staleGameDays,
+                              @Value("${vbr.maintenance.batch-size}") int batchSize,
+                              @Value("${vbr.maintenance.batch-pause-millis}") long batchPauseMillis,
+                              @Value("${vbr.maintenance.max-documents}") long maxDocuments,
+                              @Value("${vbr.maintenance.max-duration-minutes}") int maxDurationMinutes) {
+        this.gameDao = gameDao;
+        this.friendRequestDao = friendRequestDao;
+        this.userDao = userDao;
+        this.statisticsService = statisticsService;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.staleGameAge = Duration.ofDays(staleGameDays);
+        this.batchSize = batchSize;
+        this.batchPauseMillis = batchPauseMillis;
+        this.maxDocuments = maxDocuments;
+        this.maxDuration = Duration.ofMinutes(maxDurationMinutes);
+        this.lastReport = new AtomicReference<>();
+    }
+
+    @Scheduled(cron = "${vbr.maintenance.cron}")
+    public void runScheduledMaintenance() {
+        if (enabled) {
+            runMaintenance();
+        }
+    }
+
+    public synchronized MaintenanceReportDto runMaintenance() {
+        long startedAt = Instant.now().toEpochMilli();
+        long deadline = startedAt + maxDuration.toMillis();
+
+        long deletedGames = purgeStaleScheduledGames(startedAt - staleGameAge.toMillis(), deadline, maxDocuments);
+        long deletedFriendRequests = purgeOrphanedFriendRequests(deadline, maxDocuments - deletedGames);
+        long durationMillis = Instant.now().toEpochMilli() - startedAt;
+        boolean throttled = deletedGames + deletedFriendRequests >= maxDocuments || startedAt + durationMillis >= deadline;
+
+        MaintenanceReportDto report = new MaintenanceReportDto(startedAt, durationMillis, deletedGames, deletedFriendRequests, throttled);
+        lastReport.set(report);
+        log.info("Maintenance removed {} stale scheduled games and {} orphaned friend requests in {} ms{}", deletedGames,
+                 deletedFriendRequests, durationMillis, throttled ? ", remaining documents are left to the next run" : "");
+        return report;
+    }
+
+    public Optional<MaintenanceReportDto> getLastReport() {
+        return Optional.ofNullable(lastReport.get());
+    }
+
+    private long purgeStaleScheduledGames(long scheduledBefore, long deadline, long budget) {
+        long deleted = 0L;
+        boolean hasMore = true;
+
+        while (hasMore && deleted < budget && Instant.now().toEpochMilli() < deadline) {
+            int limit = (int) Math.min(batchSize, budget - deleted);
+            List<Game> games = gameDao.findByScheduledAtLessThanAndStatus(scheduledBefore, GameStatus.SCHEDULED, limit);
+
+            if (!games.isEmpty()) {
+                deleted += gameDao.deleteByIdInAndScheduledAtLessThanAndStatus(games.stream().map(Game::getId).toList(), scheduledBefore,
+                                                                               GameStatus.SCHEDULED);
+                games.stream().map(Game::getCreatedBy).distinct().forEach(statisticsService::refreshUserStatistics);
+                games
+                        .stream()
+                        .map(Game::getLeague)
+                        .filter(Objects::nonNull)
+                        .map(Game.SelectedLeague::getId)
+                        .distinct()
+                        .forEach(leagueId -> eventPublisher.publishEvent(new LeagueChangedEvent(leagueId)));
+            }
+
+            hasMore = games.size() == limit && pause();
+        }
+
+        return deleted;
+    }
+
+    private long purgeOrphanedFriendRequests(long deadline, long budget) {
+        long deleted = 0L;
+        boolean hasMore = true;
+        UUID lastId = null;
+
+        while (hasMore && deleted < budget && Instant.now().toEpochMilli() < deadline) {
+            List<FriendRequest> friendRequests = friendRequestDao.findByIdGreaterThan(lastId, batchSize);
+
+            if (!friendRequests.isEmpty()) {
+                lastId = friendRequests.get(friendRequests.size() - 1).getId();
+                java.util.Set<UUID> userIds = userDao.findIdsByIdIn(friendRequests
+                                                                            .stream()
+                                                                            .flatMap(friendRequest -> Stream.of(
+                                                                                    friendRequest.getSenderId(),
+                                                                                    friendRequest.getReceiverId()))
+                                                                            .distinct()
+                                                                            .toList());
+                List<UUID> orphanIds = friendRequests
+                        .stream()
+                        .filter(friendRequest -> !userIds.contains(friendRequest.getSenderId()) || !userIds.contains(
+                                friendRequest.getReceiverId()))
+                        .map(FriendRequest::getId)
+                        .limit(budget - deleted)
+                        .toList();
+
+                if (!orphanIds.isEmpty()) {
+                    deleted += friendRequestDao.deleteByIdIn(orphanIds);
+                }
+            }
+
+            hasMore = friendRequests.size() == batchSize && pause();
+        }
+
+        return deleted;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Maintenance was interrupted");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.tonkar.volleyballreferee.service;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.tonkar.volleyballreferee.dao.*;
+import com.tonkar.volleyballreferee.dto.ResourceVersionDto;
+import com.tonkar.volleyballreferee.entity.*;
+import com.tonkar.volleyballreferee.export.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.*;
+import java.security.*;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScoreSheetService {
+
+    private static final int sPdfBatchSize = 20;
+
+    private final GameDao       gameDao;
+    private final ScoreSheetDao scoreSheetDao;
+
+    public ScoreSheetFile getScoreSheet(UUID gameId, boolean gzipAccepted) throws IOException {
+        Game gameKey = gameDao
+                .findScoreSheetKeyById(gameId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, String.format("Could not find game %s", gameId)));
+        String filename = ScoreSheetWriter.createFilename(gameKey);
+
+        if (!GameStatus.COMPLETED.equals(gameKey.getStatus())) {
+            String eTag = new ResourceVersionDto(gameKey.getUpdatedAt(), 1L).eTag();
+            return new ScoreSheetFile(filename, eTag, gameKey.getUpdatedAt(), -1L, false,
+                                      outputStream -> ScoreSheetWriter.writeScoreSheet(getGame(gameId), outputStream));
+        }
+
+        Optional<GridFSFile> storedFile = scoreSheetDao.findByGameIdAndUpdatedAt(gameId, gameKey.getUpdatedAt());
+
+        if (storedFile.isPresent()) {
+            return toScoreSheetFile(filename, gameKey.getUpdatedAt(), storedFile.get(), gzipAccepted);
+        }
+
+        RenderedScoreSheet scoreSheet = renderAndStore(getGame(gameId));
+        byte[] content = gzipAccepted ? scoreSheet.gzippedContent() : scoreSheet.content();
+        return new ScoreSheetFile(filename, computeETag(scoreSheet.digest(), gzipAccepted), gameKey.getUpdatedAt(), content.length,
+                                  gzipAccepted, outputStream -> outputStream.write(content));
+    }
+
+    public StreamingFileWrapper getScoreSheetPdf(UUID gameId) {
+        return ScoreSheetPdfWriter.createScoreSheet(getGame(gameId));
+    }
+
+    public StreamingFileWrapper listScoreSheetsPdfInDivision(UUID leagueId, String divisionName) {
+        return new StreamingFileWrapper(ScoreSheetPdfWriter.createFilename(divisionName), outputStream -> {
+            try (Stream<Game> games = gameDao.streamByLeague_IdAndLeague_DivisionAndStatusOrderByScheduledAtAsc(leagueId, divisionName,
+                                                                                                                GameStatus.COMPLETED,
+                                                                                                                sPdfBatchSize)) {
+                ScoreSheetPdfWriter.writeScoreSheets(games::iterator, divisionName, outputStream);
+            }
+        });
+    }
+
+    public void addGame(Game game) {
+        if (GameStatus.COMPLETED.equals(game.getStatus())) {
+            try {
+                renderAndStore(game);
+            } catch (IOException e) {
+                log.warn("Could not render the score sheet of game {}, it will be rendered on first request", game.getId(), e);
+            }
+        }
+    }
+
+    public void removeGame(Game game) {
+        scoreSheetDao.deleteByGameId(game.getId());
+    }
+
+    public void removeGames(UUID userId) {
+        scoreSheetDao.deleteByCreatedBy(userId);
+    }
+
+    public void removeGamesInLeague(UUID userId, UUID leagueId) {
+        scoreSheetDao.deleteByCreatedByAndLeagueId(userId, leagueId);
+    }
+
+    private Game getGame(UUID gameId) {
+        return gameDao
+                .findById(gameId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, String.format("Could not find game %s", gameId)));
+    }
+
+    private RenderedScoreSheet renderAndStore(Game game) throws IOException {
+        ByteArrayOutputStream contentStream = new ByteArrayOutputStream();
+        ScoreSheetWriter.writeScoreSheet(game, contentStream);
+        byte[] content = contentStream.toByteArray();
+
+        ByteArrayOutputStream gzippedContentStream = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(gzippedContentStream)) {
+            gzipStream.write(content);
+        }
+
+        RenderedScoreSheet scoreSheet = new RenderedScoreSheet(computeDigest(content), content, gzippedContentStream.toByteArray());
+
+        UUID leagueId = game.getLeague() == null ? null : game.getLeague().getId();
+
+        try {
+            scoreSheetDao.insert(game.getId(), game.getUpdatedAt(), game.getCreatedBy(), leagueId, scoreSheet.digest(), content.length,
+                                 scoreSheet.gzippedContent());
+        } catch (DataAccessException e) {
+            log.warn("Could not store the score sheet of game {}", game.getId(), e);
+        }
+
+        return scoreSheet;
+    }
+
+    private ScoreSheetFile toScoreSheetFile(String filename, long lastModified, GridFSFile file, boolean gzipAccepted) {
+        String digest = file.getMetadata().getString(ScoreSheetDao.DIGEST);
+
+        if (gzipAccepted) {
+            return new ScoreSheetFile(filename, computeETag(digest, true), lastModified, file.getLength(), true, outputStream -> {
+                try (InputStream inputStream = scoreSheetDao.openStream(file)) {
+                    inputStream.transferTo(outputStream);
+                }
+            });
+        } else {
+            long contentLength = file.getMetadata().get(ScoreSheetDao.CONTENT_LENGTH, Number.class).longValue();
+            return new ScoreSheetFile(filename, computeETag(digest, false), lastModified, contentLength, false, outputStream -> {
+                try (InputStream inputStream = new GZIPInputStream(scoreSheetDao.openStream(file))) {
+                    inputStream.transferTo(outputStream);
+                }
+            });
+        }
+    }
+
+    private String computeDigest(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String computeETag(String digest, boolean gzipped) {
+        return gzipped ? String.format("\"%s-gzip\"", digest) : String.format("\"%s\"", digest);
+    }
+
+    private record RenderedScoreSheet(String digest, byte[] content, byte[] gzippedContent) {}
+}
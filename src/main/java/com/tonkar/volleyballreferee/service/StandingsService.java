@@ -0,0 +1,126 @@
+package com.tonkar.volleyballreferee.service;
+
+import com.tonkar.volleyballreferee.configuration.CacheConfiguration;
+import com.tonkar.volleyballreferee.dao.*;
+import com.tonkar.volleyballreferee.dto.*;
+import com.tonkar.volleyballreferee.entity.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.*;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StandingsService {
+
+    private final StandingsDao standingsDao;
+    private final GameDao      gameDao;
+
+    @Cacheable(cacheNames = CacheConfiguration.RANKINGS_CACHE, key = "#leagueId + '/' + #divisionName", sync = true)
+    public List<RankingDto> listRankingsInDivision(UUID leagueId, String divisionName) {
+        return standingsDao
+                .findById(Standings.computeId(leagueId, divisionName))
+                .orElseGet(() -> rebuildStandings(leagueId, divisionName))
+                .getRankings();
+    }
+
+    public void addGame(Game game) {
+        updateStandings(game, true);
+    }
+
+    public void removeGame(Game game) {
+        updateStandings(game, false);
+    }
+
+    public void removeLeagues(Collection<UUID> leagueIds) {
+        if (!leagueIds.isEmpty()) {
+            standingsDao.deleteByLeagueIdIn(leagueIds);
+        }
+    }
+
+    private void updateStandings(Game game, boolean added) {
+        if (!GameStatus.COMPLETED.equals(game.getStatus()) || game.getLeague() == null || StringUtils.isBlank(
+                game.getLeague().getDivision())) {
+            return;
+        }
+
+        String id = Standings.computeId(game.getLeague().getId(), game.getLeague().getDivision());
+        Optional<Standings> optionalStandings = standingsDao.findById(id);
+
+        if (optionalStandings.isEmpty() || optionalStandings.get().getGameIds().contains(game.getId()) == added) {
+            return;
+        }
+
+        Standings standings = optionalStandings.get();
+        Rankings rankings = new Rankings(standings.getRankings());
+        List<UUID> gameIds = new ArrayList<>(standings.getGameIds());
+
+        if (added) {
+            rankings.addGame(toGameScore(game));
+            gameIds.add(game.getId());
+        } else {
+            rankings.removeGame(toGameScore(game));
+            gameIds.remove(game.getId());
+        }
+
+        standings.setRankings(rankings.list());
+        standings.setGameIds(gameIds);
+        standings.setUpdatedAt(Instant.now().toEpochMilli());
+
+        try {
+            standingsDao.save(standings);
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Concurrent update of standings {}, they will be rebuilt on next read", id);
+            standingsDao.deleteById(id);
+        }
+    }
+
+    private Standings rebuildStandings(UUID leagueId, String divisionName) {
+        List<GameScoreDto> games = gameDao.findByLeague_IdAndLeague_DivisionAndStatusOrderByScheduledAtAsc(leagueId, divisionName,
+                                                                                                           GameStatus.COMPLETED);
+        Rankings rankings = new Rankings();
+        games.forEach(rankings::addGame);
+
+        Standings standings = new Standings();
+        standings.setId(Standings.computeId(leagueId, divisionName));
+        standings.setLeagueId(leagueId);
+        standings.setDivisionName(divisionName);
+        standings.setUpdatedAt(Instant.now().toEpochMilli());
+        standings.setGameIds(games.stream().map(GameScoreDto::getId).toList());
+        standings.setRankings(rankings.list());
+
+        if (!games.isEmpty()) {
+            try {
+                standingsDao.insert(standings);
+
+                if (gameDao.countByLeague_IdAndLeague_DivisionAndStatus(leagueId, divisionName, GameStatus.COMPLETED) != games.size()) {
+                    standingsDao.deleteById(standings.getId());
+                }
+            } catch (DuplicateKeyException e) {
+                log.debug("Standings {} were rebuilt concurrently", standings.getId());
+            }
+        }
+
+        return standings;
+    }
+
+    private GameScoreDto toGameScore(Game game) {
+        GameScoreDto gameScore = new GameScoreDto();
+        gameScore.setId(game.getId());
+        gameScore.setScheduledAt(game.getScheduledAt());
+        gameScore.setHomeTeamName(game.getHomeTeam().getName());
+        gameScore.setGuestTeamName(game.getGuestTeam().getName());
+        gameScore.setHomeTeamColor(game.getHomeTeam().getColor());
+        gameScore.setGuestTeamColor(game.getGuestTeam().getColor());
+        gameScore.setHomeSets(game.getHomeSets());
+        gameScore.setGuestSets(game.getGuestSets());
+        gameScore.setSets(game.getSets().stream().map(set -> new SetSummaryDto(set.getHomePoints(), set.getGuestPoints())).toList());
+        return gameScore;
+    }
+}
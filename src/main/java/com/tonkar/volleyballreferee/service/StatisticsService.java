@@ -3,25 +3,66 @@ package com.tonkar.volleyballreferee.service;
 import com.tonkar.volleyballreferee.configuration.CacheConfiguration;
 import com.tonkar.volleyballreferee.dao.StatisticsDao;
 import com.tonkar.volleyballreferee.dto.StatisticsGroupDto;
-import com.tonkar.volleyballreferee.entity.User;
+import com.tonkar.volleyballreferee.entity.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.UUID;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class StatisticsService {
 
     private final StatisticsDao statisticsDao;
 
-    @Cacheable(cacheNames = CacheConfiguration.GLOBAL_STATISTICS_CACHE, key = "#root.methodName")
+    @Cacheable(cacheNames = CacheConfiguration.GLOBAL_STATISTICS_CACHE, key = "#root.methodName", sync = true)
     public StatisticsGroupDto getGlobalStatistics() {
         return statisticsDao.findGlobalStatistics();
     }
 
-    @Cacheable(cacheNames = CacheConfiguration.GLOBAL_STATISTICS_CACHE, key = "#user.id")
+    @Cacheable(cacheNames = CacheConfiguration.USER_STATISTICS_CACHE, key = "#user.id", sync = true)
     public StatisticsGroupDto getUserStatistics(User user) {
         return statisticsDao.findUserStatistics(user.getId());
     }
 
+    public void addGame(Game game) {
+        statisticsDao.incrementGames(game.getCreatedBy(), game.getKind(), 1L);
+    }
+
+    public void removeGame(Game game) {
+        statisticsDao.incrementGames(game.getCreatedBy(), game.getKind(), -1L);
+    }
+
+    public void addTeam(Team team) {
+        statisticsDao.incrementTeams(team.getCreatedBy(), team.getKind(), 1L);
+    }
+
+    public void removeTeam(Team team) {
+        statisticsDao.incrementTeams(team.getCreatedBy(), team.getKind(), -1L);
+    }
+
+    public void refreshUserStatistics(UUID userId) {
+        statisticsDao.reconcileUserStatistics(userId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initStatistics() {
+        if (!statisticsDao.exists()) {
+            reconcileStatistics();
+        }
+    }
+
+    @Scheduled(cron = "${vbr.statistics.reconciliation-cron}")
+    public void reconcileStatistics() {
+        long start = Instant.now().toEpochMilli();
+        statisticsDao.reconcileStatistics();
+        log.info("Reconciled statistics counters in {} ms", Instant.now().toEpochMilli() - start);
+    }
 }
@@ -1,9 +1,12 @@
 package com.tonkar.volleyballreferee.service;
 
+import com.tonkar.volleyballreferee.configuration.CacheConfiguration;
 import com.tonkar.volleyballreferee.dao.*;
 import com.tonkar.volleyballreferee.dto.*;
 import com.tonkar.volleyballreferee.entity.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -17,9 +20,12 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class TeamService {
 
-    private final TeamDao teamDao;
-    private final GameDao gameDao;
+    private final StatisticsService         statisticsService;
+    private final TeamDao                   teamDao;
+    private final GameDao                   gameDao;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Cacheable(cacheNames = CacheConfiguration.TEAMS_CACHE, key = "#leagueId", sync = true)
     public List<TeamSummaryDto> listTeamsOfLeague(UUID leagueId) {
         Set<UUID> teamIds = new TreeSet<>();
 
@@ -31,6 +37,7 @@ public class TeamService {
         return teamDao.listTeamsWithIds(teamIds);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.TEAMS_CACHE, key = "#leagueId + '/' + #divisionName", sync = true)
     public List<TeamSummaryDto> listTeamsOfDivision(UUID leagueId, String divisionName) {
         Set<UUID> teamIds = new TreeSet<>();
 
@@ -74,6 +81,7 @@ public class TeamService {
             team.setCreatedBy(user.getId());
             team.setUpdatedAt(Instant.now().toEpochMilli());
             teamDao.save(team);
+            statisticsService.addTeam(team);
         }
     }
 
@@ -101,6 +109,9 @@ public class TeamService {
     private void updateScheduledGamesWithTeam(User user, Team team) {
         teamDao.updateScheduledGamesWithHomeTeam(user.getId(), team);
         teamDao.updateScheduledGamesWithGuestTeam(user.getId(), team);
+        gameDao
+                .findLeagueIdsByCreatedByAndTeam(user.getId(), team.getId())
+                .forEach(leagueId -> eventPublisher.publishEvent(new LeagueChangedEvent(leagueId)));
     }
 
     public void deleteTeam(User user, UUID teamId) {
@@ -109,14 +120,14 @@ public class TeamService {
                                               String.format("Could not delete team %s for user %s because it is used in a game", teamId,
                                                             user.getId()));
         } else {
-            teamDao.deleteByIdAndCreatedBy(teamId, user.getId());
+            teamDao.findAndRemoveByIdAndCreatedBy(teamId, user.getId()).ifPresent(statisticsService::removeTeam);
         }
     }
 
     public void deleteAllTeams(User user) {
         teamDao.findByCreatedByOrderByNameAsc(user.getId()).forEach(team -> {
             if (!gameDao.existsByCreatedByAndRules_IdAndStatus(user.getId(), team.id(), GameStatus.SCHEDULED)) {
-                teamDao.deleteByIdAndCreatedBy(team.id(), user.getId());
+                teamDao.findAndRemoveByIdAndCreatedBy(team.id(), user.getId()).ifPresent(statisticsService::removeTeam);
             }
         });
     }
@@ -3,8 +3,10 @@ package com.tonkar.volleyballreferee.service;
 import com.tonkar.volleyballreferee.dao.*;
 import com.tonkar.volleyballreferee.dto.*;
 import com.tonkar.volleyballreferee.entity.User;
+import com.tonkar.volleyballreferee.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -17,10 +19,12 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class UserService {
 
-    private final AuthService      authService;
-    private final UserDao          userDao;
-    private final GameDao          gameDao;
-    private final FriendRequestDao friendRequestDao;
+    private final AuthService               authService;
+    private final UserDao                   userDao;
+    private final GameDao                   gameDao;
+    private final FriendRequestDao          friendRequestDao;
+    private final PrincipalCache            principalCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public User getUser(UUID userId) {
         return userDao
@@ -39,7 +43,8 @@ public class UserService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, String.format("Access is locked for user %s", user.getId()));
         }
 
-        if (authService.getPasswordEncoder().matches(userPassword, user.getPassword())) {
+        if (authService.matchesPassword(userPassword, user.getPassword())) {
+            upgradePasswordEncoding(user, userPassword);
             userSignedIn(user);
             return authService.generateToken(user);
         } else {
@@ -48,8 +53,24 @@ public class UserService {
         }
     }
 
+    public UserTokenDto refreshToken(String refreshToken) {
+        UUID userId = UUID.fromString(authService.verifyRefreshToken(refreshToken).getSubject());
+
+        User user = userDao
+                .findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, String.format("Could not find user %s", userId)));
+
+        if (!user.isEnabled() || isLocked(user)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, String.format("Access is locked for user %s", user.getId()));
+        }
+
+        return authService.generateToken(user);
+    }
+
     public UserTokenDto updateUserPassword(User user, UserPasswordUpdateDto userPasswordUpdate) {
-        if (!authService.getPasswordEncoder().matches(userPasswordUpdate.currentPassword(), user.getPassword())) {
+        user = getUser(user.getId());
+
+        if (!authService.matchesPassword(userPasswordUpdate.currentPassword(), user.getPassword())) {
             addFailedAuthentication(user);
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, String.format("Invalid password for user %s", user.getId()));
         }
@@ -72,8 +93,10 @@ public class UserService {
             }
             userDao.updateFriendPseudo(user.getId(), newPseudo);
             gameDao.updateUserPseudo(user.getId(), newPseudo);
+            gameDao.findLeagueIdsByRefereedBy(user.getId()).forEach(leagueId -> eventPublisher.publishEvent(new LeagueChangedEvent(leagueId)));
             friendRequestDao.updateSenderPseudo(user.getId(), newPseudo);
             friendRequestDao.updateReceiverPseudo(user.getId(), newPseudo);
+            principalCache.evict(getUser(user.getId()));
         }
 
         user = userDao
@@ -89,6 +112,18 @@ public class UserService {
                 .isBefore(LocalDateTime.ofInstant(Instant.ofEpochMilli(user.getFailedAuthentication().getResetsAt()), ZoneOffset.UTC));
     }
 
+    private void upgradePasswordEncoding(User user, String password) {
+        if (authService.isPasswordEncodingOutdated(user.getPassword())) {
+            try {
+                if (userDao.updateUserPassword(user.getId(), authService.encodePassword(password))) {
+                    principalCache.evict(user.getId());
+                }
+            } catch (ResponseStatusException e) {
+                log.warn("Could not upgrade the password encoding of user {}: {}", user.getId(), e.getReason());
+            }
+        }
+    }
+
     private void userSignedIn(User user) {
         userDao.updateUserSignedIn(user.getId(), Instant.now().toEpochMilli());
     }
@@ -109,17 +144,20 @@ public class UserService {
                 .getAttempts() + 1);
         failedAuthentication.setResetsAt(willResetAt.toInstant(ZoneOffset.UTC).toEpochMilli());
         userDao.addFailedAuthentication(user.getId(), failedAuthentication);
+        principalCache.evict(user.getId());
     }
 
     public void updateUserPassword(User user, String password) {
-        if (authService.getPasswordEncoder().matches(password, user.getPassword())) {
+        if (authService.matchesPassword(password, user.getPassword())) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Provided password is the same as the previous");
         }
 
         authService.validatePassword(password);
 
-        if (!userDao.updateUserPassword(user.getId(), authService.getPasswordEncoder().encode(password))) {
+        if (!userDao.updateUserPassword(user.getId(), authService.encodePassword(password))) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, String.format("Unable to set new password for user %s", user.getId()));
         }
+
+        principalCache.evict(user.getId());
     }
 }
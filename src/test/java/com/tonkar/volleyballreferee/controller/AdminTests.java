@@ -69,4 +69,64 @@ class AdminTests extends VbrControllerTests {
                 .expectStatus()
                 .isEqualTo(responseCode);
     }
+
+    @ParameterizedTest
+    @CsvSource(value = { "userToken, FORBIDDEN", "adminToken, OK", "invalidToken, UNAUTHORIZED" })
+    void test_admin_listIndexStats(String token, HttpStatus responseCode) {
+        webTestClient
+                .get()
+                .uri("/admin/indexes")
+                .header(HttpHeaders.AUTHORIZATION, bearer(token))
+                .exchange()
+                .expectStatus()
+                .isEqualTo(responseCode);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = { "userToken, FORBIDDEN", "adminToken, OK", "invalidToken, UNAUTHORIZED" })
+    void test_admin_getPasswordHashingStats(String token, HttpStatus responseCode) {
+        webTestClient
+                .get()
+                .uri("/admin/password-hashing")
+                .header(HttpHeaders.AUTHORIZATION, bearer(token))
+                .exchange()
+                .expectStatus()
+                .isEqualTo(responseCode);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = { "userToken, FORBIDDEN", "adminToken, OK", "invalidToken, UNAUTHORIZED" })
+    void test_admin_listCacheStats(String token, HttpStatus responseCode) {
+        webTestClient
+                .get()
+                .uri("/admin/caches")
+                .header(HttpHeaders.AUTHORIZATION, bearer(token))
+                .exchange()
+                .expectStatus()
+                .isEqualTo(responseCode);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = { "userToken, FORBIDDEN", "adminToken, OK", "invalidToken, UNAUTHORIZED" })
+    void test_admin_getLastMaintenanceReport(String token, HttpStatus responseCode) {
+        webTestClient
+                .get()
+                .uri("/admin/maintenance")
+                .header(HttpHeaders.AUTHORIZATION, bearer(token))
+                .exchange()
+                .expectStatus()
+                .isEqualTo(responseCode);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = { "userToken, FORBIDDEN", "adminToken, OK", "invalidToken, UNAUTHORIZED" })
+    void test_admin_runMaintenance(String token, HttpStatus responseCode) {
+        webTestClient
+                .post()
+                .uri("/admin/maintenance")
+                .header(HttpHeaders.AUTHORIZATION, bearer(token))
+                .exchange()
+                .expectStatus()
+                .isEqualTo(responseCode);
+    }
 }
@@ -1,6 +1,6 @@
 package com.tonkar.volleyballreferee.controller;
 
-import com.tonkar.volleyballreferee.dto.GameSummaryDto;
+import com.tonkar.volleyballreferee.dto.*;
 import com.tonkar.volleyballreferee.entity.*;
 import com.tonkar.volleyballreferee.entity.Set;
 import com.tonkar.volleyballreferee.service.GameService;
@@ -203,6 +203,19 @@ class GameTests extends VbrControllerTests {
                 .isEqualTo(responseCode);
     }
 
+    @ParameterizedTest
+    @CsvSource(value = { "userToken, OK", "adminToken, OK", "invalidToken, UNAUTHORIZED" })
+    void test_games_addRallyEvent(String token, HttpStatus responseCode) {
+        webTestClient
+                .post()
+                .uri("/games/%s/set/1/events".formatted(UUID.randomUUID()))
+                .header(HttpHeaders.AUTHORIZATION, bearer(token))
+                .bodyValue(new RallyEventDto(RallyEventType.POINT, TeamType.HOME, 0, 0, null, 0))
+                .exchange()
+                .expectStatus()
+                .isEqualTo(responseCode);
+    }
+
     @ParameterizedTest
     @CsvSource(value = { "userToken, OK", "adminToken, OK", "invalidToken, UNAUTHORIZED" })
     void test_games_setReferee(String token, HttpStatus responseCode) {
@@ -1,7 +1,7 @@
 package com.tonkar.volleyballreferee.controller;
 
-import com.tonkar.volleyballreferee.dto.LoginCredentialsDto;
-import com.tonkar.volleyballreferee.entity.FileWrapper;
+import com.tonkar.volleyballreferee.dto.*;
+import com.tonkar.volleyballreferee.entity.*;
 import com.tonkar.volleyballreferee.service.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -9,6 +9,7 @@ import org.mockito.Mockito;
 import org.springframework.http.*;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.time.LocalDate;
@@ -21,6 +22,12 @@ class PublicTests extends VbrControllerTests {
     @MockitoBean
     private GameService gameService;
 
+    @MockitoBean
+    private ScoreSheetService scoreSheetService;
+
+    @MockitoBean
+    private LiveScoreService liveScoreService;
+
     @MockitoBean
     private StatisticsService statisticsService;
 
@@ -42,6 +49,18 @@ class PublicTests extends VbrControllerTests {
                 .isOk();
     }
 
+    @ParameterizedTest
+    @CsvSource(value = { "userToken, OK", "adminToken, OK", "invalidToken, UNAUTHORIZED" })
+    void test_public_refreshToken() {
+        webTestClient
+                .post()
+                .uri("/public/users/token/refresh")
+                .bodyValue(new RefreshTokenDto(faker.code().ean8()))
+                .exchange()
+                .expectStatus()
+                .isOk();
+    }
+
     @ParameterizedTest
     @CsvSource(value = { "userToken, OK", "adminToken, OK", "invalidToken, OK" })
     void test_public_getGlobalStatistics(String token, HttpStatus responseCode) {
@@ -57,6 +76,8 @@ class PublicTests extends VbrControllerTests {
     @ParameterizedTest
     @CsvSource(value = { "userToken, OK", "adminToken, OK", "invalidToken, OK" })
     void test_public_getGame(String token, HttpStatus responseCode) {
+        Mockito.doReturn(new ResourceVersionDto(1L, 1L)).when(gameService).getGameVersion(Mockito.any(UUID.class));
+
         webTestClient
                 .get()
                 .uri("/public/games/%s".formatted(UUID.randomUUID()))
@@ -66,10 +87,31 @@ class PublicTests extends VbrControllerTests {
                 .isEqualTo(responseCode);
     }
 
+    @ParameterizedTest
+    @CsvSource(value = { "userToken, NOT_MODIFIED", "adminToken, NOT_MODIFIED", "invalidToken, NOT_MODIFIED" })
+    void test_public_getGame_notModified(String token, HttpStatus responseCode) {
+        ResourceVersionDto version = new ResourceVersionDto(1L, 1L);
+        Mockito.doReturn(version).when(gameService).getGameVersion(Mockito.any(UUID.class));
+
+        webTestClient
+                .get()
+                .uri("/public/games/%s".formatted(UUID.randomUUID()))
+                .header(HttpHeaders.AUTHORIZATION, bearer(token))
+                .header(HttpHeaders.IF_NONE_MATCH, version.eTag())
+                .exchange()
+                .expectStatus()
+                .isEqualTo(responseCode);
+
+        Mockito.verify(gameService, Mockito.never()).getGame(Mockito.any(UUID.class));
+    }
+
     @ParameterizedTest
     @CsvSource(value = { "userToken, OK", "adminToken, OK", "invalidToken, OK" })
-    void test_public_getScoreSheet(String token, HttpStatus responseCode) {
-        Mockito.doReturn(new FileWrapper(faker.book().title(), new byte[]{})).when(gameService).getScoreSheet(Mockito.any(UUID.class));
+    void test_public_getScoreSheet(String token, HttpStatus responseCode) throws IOException {
+        Mockito
+                .doReturn(new ScoreSheetFile(faker.book().title(), "\"digest\"", 1L, 0L, false, outputStream -> {}))
+                .when(scoreSheetService)
+                .getScoreSheet(Mockito.any(UUID.class), Mockito.anyBoolean());
 
         webTestClient
                 .get()
@@ -80,6 +122,24 @@ class PublicTests extends VbrControllerTests {
                 .isEqualTo(responseCode);
     }
 
+    @ParameterizedTest
+    @CsvSource(value = { "userToken, OK", "adminToken, OK", "invalidToken, OK" })
+    void test_public_getScoreSheetPdf(String token, HttpStatus responseCode) {
+        Mockito.doReturn(new ResourceVersionDto(1L, 1L)).when(gameService).getGameVersion(Mockito.any(UUID.class));
+        Mockito
+                .doReturn(new StreamingFileWrapper(faker.book().title(), outputStream -> {}))
+                .when(scoreSheetService)
+                .getScoreSheetPdf(Mockito.any(UUID.class));
+
+        webTestClient
+                .get()
+                .uri("/public/games/%s/score-sheet.pdf".formatted(UUID.randomUUID()))
+                .header(HttpHeaders.AUTHORIZATION, bearer(token))
+                .exchange()
+                .expectStatus()
+                .isEqualTo(responseCode);
+    }
+
     @ParameterizedTest
     @CsvSource(value = { "userToken, OK", "adminToken, OK", "invalidToken, OK" })
     void test_public_listLiveGames(String token, HttpStatus responseCode) {
@@ -92,6 +152,22 @@ class PublicTests extends VbrControllerTests {
                 .isEqualTo(responseCode);
     }
 
+    @ParameterizedTest
+    @CsvSource(value = { "userToken, OK", "adminToken, OK", "invalidToken, OK" })
+    void test_public_streamLiveGames(String token, HttpStatus responseCode) {
+        var emitter = new SseEmitter();
+        emitter.complete();
+        Mockito.doReturn(emitter).when(liveScoreService).subscribeToLiveGames();
+
+        webTestClient
+                .get()
+                .uri("/public/games/live/stream")
+                .header(HttpHeaders.AUTHORIZATION, bearer(token))
+                .exchange()
+                .expectStatus()
+                .isEqualTo(responseCode);
+    }
+
     @ParameterizedTest
     @CsvSource(value = { "userToken, OK", "adminToken, OK", "invalidToken, OK" })
     void test_public_listGamesMatchingToken(String token, HttpStatus responseCode) {
@@ -143,6 +219,8 @@ class PublicTests extends VbrControllerTests {
     @ParameterizedTest
     @CsvSource(value = { "userToken, OK", "adminToken, OK", "invalidToken, OK" })
     void test_public_getGamesInLeagueGroupedByStatus(String token, HttpStatus responseCode) {
+        Mockito.doReturn(new ResourceVersionDto(1L, 1L)).when(gameService).getVersionOfGamesInLeague(Mockito.any(UUID.class));
+
         webTestClient
                 .get()
                 .uri("/public/games/league/%s/group".formatted(UUID.randomUUID()))
@@ -223,6 +301,11 @@ class PublicTests extends VbrControllerTests {
     @ParameterizedTest
     @CsvSource(value = { "userToken, OK", "adminToken, OK", "invalidToken, OK" })
     void test_public_getGamesInDivisionGroupedByStatus(String token, HttpStatus responseCode) {
+        Mockito
+                .doReturn(new ResourceVersionDto(1L, 1L))
+                .when(gameService)
+                .getVersionOfGamesInDivision(Mockito.any(UUID.class), Mockito.anyString());
+
         webTestClient
                 .get()
                 .uri("/public/games/league/%s/division/%s/group".formatted(UUID.randomUUID(), faker.animal().name()))
@@ -299,9 +382,9 @@ class PublicTests extends VbrControllerTests {
 
     @ParameterizedTest
     @CsvSource(value = { "userToken, OK", "adminToken, OK", "invalidToken, OK" })
-    void test_public_listGamesInDivisionExcel(String token, HttpStatus responseCode) throws IOException {
+    void test_public_listGamesInDivisionExcel(String token, HttpStatus responseCode) {
         Mockito
-                .doReturn(new FileWrapper(faker.book().title(), new byte[]{}))
+                .doReturn(new StreamingFileWrapper(faker.book().title(), outputStream -> {}))
                 .when(gameService)
                 .listGamesInDivisionExcel(Mockito.any(UUID.class), Mockito.anyString());
 
@@ -314,6 +397,27 @@ class PublicTests extends VbrControllerTests {
                 .isEqualTo(responseCode);
     }
 
+    @ParameterizedTest
+    @CsvSource(value = { "userToken, OK", "adminToken, OK", "invalidToken, OK" })
+    void test_public_listScoreSheetsPdfInDivision(String token, HttpStatus responseCode) {
+        Mockito
+                .doReturn(new ResourceVersionDto(1L, 1L))
+                .when(gameService)
+                .getVersionOfGamesInDivision(Mockito.any(UUID.class), Mockito.anyString());
+        Mockito
+                .doReturn(new StreamingFileWrapper(faker.book().title(), outputStream -> {}))
+                .when(scoreSheetService)
+                .listScoreSheetsPdfInDivision(Mockito.any(UUID.class), Mockito.anyString());
+
+        webTestClient
+                .get()
+                .uri("/public/games/league/%s/division/%s/score-sheets.pdf".formatted(UUID.randomUUID(), faker.animal().name()))
+                .header(HttpHeaders.AUTHORIZATION, bearer(token))
+                .exchange()
+                .expectStatus()
+                .isEqualTo(responseCode);
+    }
+
     @ParameterizedTest
     @CsvSource(value = { "userToken, OK", "adminToken, OK", "invalidToken, OK" })
     void test_public_listTeamsOfLeague(String token, HttpStatus responseCode) {
@@ -341,6 +445,8 @@ class PublicTests extends VbrControllerTests {
     @ParameterizedTest
     @CsvSource(value = { "userToken, OK", "adminToken, OK", "invalidToken, OK" })
     void test_public_getLeague(String token, HttpStatus responseCode) {
+        Mockito.doReturn(new ResourceVersionDto(1L, 1L)).when(leagueService).getLeagueVersion(Mockito.any(UUID.class));
+
         webTestClient
                 .get()
                 .uri("/public/leagues/%s".formatted(UUID.randomUUID()))
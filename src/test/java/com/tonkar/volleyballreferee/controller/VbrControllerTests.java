@@ -47,7 +47,7 @@ class VbrControllerTests {
     @Value("${vbr.jwt.issuer}")
     private String issuer;
 
-    @Value("${vbr.jwt.token-validity-days}")
+    @Value("${vbr.jwt.refresh-token-validity-days}")
     private int tokenValidityDays;
 
     protected WebTestClient webTestClient;
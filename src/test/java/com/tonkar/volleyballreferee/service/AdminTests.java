@@ -1,12 +1,16 @@
 package com.tonkar.volleyballreferee.service;
 
+import com.tonkar.volleyballreferee.dao.*;
 import com.tonkar.volleyballreferee.dto.*;
+import com.tonkar.volleyballreferee.entity.*;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.*;
 import org.springframework.web.server.ResponseStatusException;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class AdminTests extends VbrServiceTests {
 
@@ -14,10 +18,27 @@ class AdminTests extends VbrServiceTests {
 
     private final UserService userService;
 
-    public AdminTests(@Autowired AdminService adminService, @Autowired UserService userService) {
+    private final GameService gameService;
+
+    private final FriendService friendService;
+
+    private final IndexDao indexDao;
+
+    private final GameDao gameDao;
+
+    public AdminTests(@Autowired AdminService adminService,
+                      @Autowired UserService userService,
+                      @Autowired GameService gameService,
+                      @Autowired FriendService friendService,
+                      @Autowired IndexDao indexDao,
+                      @Autowired GameDao gameDao) {
         super();
         this.adminService = adminService;
         this.userService = userService;
+        this.gameService = gameService;
+        this.friendService = friendService;
+        this.indexDao = indexDao;
+        this.gameDao = gameDao;
     }
 
     @Test
@@ -117,4 +138,88 @@ class AdminTests extends VbrServiceTests {
         // WHEN // THEN
         Assertions.assertThrows(ResponseStatusException.class, () -> adminService.updateUserPassword(user.id(), newPassword));
     }
+
+    @Test
+    void test_admin_listIndexStats() {
+        // GIVEN
+        sandbox.createUser();
+        indexDao.ensureIndexes();
+
+        // WHEN
+        var indexStats = adminService.listIndexStats();
+
+        // THEN
+        assertTrue(indexStats.stream().anyMatch(stats -> "users".equals(stats.collection()) && "pseudo".equals(stats.name())));
+    }
+
+    @Test
+    void test_admin_getPasswordHashingStats() {
+        // GIVEN
+        sandbox.createUser();
+
+        // WHEN
+        var stats = adminService.getPasswordHashingStats();
+
+        // THEN
+        assertTrue(stats.completed() > 0);
+        assertEquals(0, stats.queueDepth());
+        assertEquals(0, stats.rejected());
+    }
+
+    @Test
+    void test_admin_runMaintenance_staleScheduledGames() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var staleGame = sandbox.generateScheduledBeachGame(user.getId(), true);
+        staleGame.setScheduledAt(System.currentTimeMillis() - Duration.ofDays(365).toMillis());
+        gameService.createGame(user, staleGame);
+        var recentGame = sandbox.createScheduledBeachGame(user.getId());
+
+        // WHEN
+        MaintenanceReportDto report = adminService.runMaintenance();
+
+        // THEN
+        assertEquals(1, report.deletedGames());
+        assertThrows(ResponseStatusException.class, () -> gameService.getGame(staleGame.getId()));
+        assertDoesNotThrow(() -> gameService.getGame(recentGame.getId()));
+        assertEquals(report, adminService.getLastMaintenanceReport());
+    }
+
+    @Test
+    void test_admin_runMaintenance_rescheduledGame() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var game = sandbox.generateScheduledBeachGame(user.getId(), true);
+        long cutoff = System.currentTimeMillis() - Duration.ofDays(180).toMillis();
+        game.setScheduledAt(System.currentTimeMillis() - Duration.ofDays(365).toMillis());
+        gameService.createGame(user, game);
+        var staleGames = gameDao.findByScheduledAtLessThanAndStatus(cutoff, GameStatus.SCHEDULED, 10);
+        game.setScheduledAt(System.currentTimeMillis());
+        gameService.updateGame(user, game);
+
+        // WHEN
+        long deleted = gameDao.deleteByIdInAndScheduledAtLessThanAndStatus(staleGames.stream().map(Game::getId).toList(), cutoff,
+                                                                           GameStatus.SCHEDULED);
+
+        // THEN
+        assertEquals(1, staleGames.size());
+        assertEquals(0, deleted);
+        assertDoesNotThrow(() -> gameService.getGame(game.getId()));
+    }
+
+    @Test
+    void test_admin_runMaintenance_orphanedFriendRequests() {
+        // GIVEN
+        var user1 = sandbox.createAndGetUser();
+        var user2 = sandbox.createAndGetUser();
+        friendService.sendFriendRequest(user1, user2.getPseudo());
+        adminService.deleteUser(user2.getId());
+
+        // WHEN
+        MaintenanceReportDto report = adminService.runMaintenance();
+
+        // THEN
+        assertEquals(1, report.deletedFriendRequests());
+        assertTrue(friendService.listFriendRequestsSentBy(user1).isEmpty());
+    }
 }
@@ -0,0 +1,53 @@
+package com.tonkar.volleyballreferee.service;
+
+import com.tonkar.volleyballreferee.entity.User;
+import org.junit.jupiter.api.*;
+import org.slf4j.*;
+
+import java.util.*;
+
+@Tag("benchmark")
+class AuthBenchmarkTests {
+
+    private static final Logger sLogger = LoggerFactory.getLogger(AuthBenchmarkTests.class);
+
+    private static final String sJwtKey     = "benchmark-key-benchmark-key-benchmark-key-benchmark-key";
+    private static final String sIssuer     = "com.tonkar.volleyballreferee.benchmark";
+    private static final int    sIterations = 200_000;
+    private static final int    sDevices    = 100;
+
+    @Test
+    void benchmark_verifyToken() {
+        // GIVEN
+        AuthService uncachedAuthService = new AuthService(sJwtKey, sIssuer, 15, 90, 0, AuthService.BCRYPT_ENCODER, 12, 1, 1, 3000);
+        AuthService cachedAuthService = new AuthService(sJwtKey, sIssuer, 15, 90, 1000, AuthService.BCRYPT_ENCODER, 12, 1, 1, 3000);
+        List<String> tokens = new ArrayList<>();
+
+        for (int index = 0; index < sDevices; index++) {
+            User user = new User();
+            user.setId(UUID.randomUUID());
+            user.setPseudo("device" + index);
+            tokens.add(uncachedAuthService.generateToken(user).token());
+        }
+
+        // WHEN
+        measure(uncachedAuthService, tokens);
+        measure(cachedAuthService, tokens);
+        double uncachedRate = measure(uncachedAuthService, tokens);
+        double cachedRate = measure(cachedAuthService, tokens);
+
+        // THEN
+        sLogger.info("verifyToken without LRU: {} requests/s, with LRU: {} requests/s", Math.round(uncachedRate), Math.round(cachedRate));
+        Assertions.assertTrue(cachedRate > uncachedRate);
+    }
+
+    private double measure(AuthService authService, List<String> tokens) {
+        long start = System.nanoTime();
+
+        for (int index = 0; index < sIterations; index++) {
+            Assertions.assertNotNull(authService.verifyToken(tokens.get(index % tokens.size())));
+        }
+
+        return sIterations / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+}
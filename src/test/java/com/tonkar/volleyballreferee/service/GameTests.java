@@ -1,28 +1,45 @@
 package com.tonkar.volleyballreferee.service;
 
-import com.tonkar.volleyballreferee.dto.GameSummaryDto;
+import com.tonkar.volleyballreferee.configuration.CacheConfiguration;
+import com.tonkar.volleyballreferee.dto.*;
 import com.tonkar.volleyballreferee.entity.*;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class GameTests extends VbrServiceTests {
 
-    private final RulesService rulesService;
-    private final TeamService  teamService;
-    private final GameService  gameService;
-
-    public GameTests(@Autowired RulesService rulesService, @Autowired TeamService teamService, @Autowired GameService gameService) {
+    private final RulesService      rulesService;
+    private final TeamService       teamService;
+    private final GameService       gameService;
+    private final ScoreSheetService scoreSheetService;
+    private final LeagueService     leagueService;
+    private final CacheManager      cacheManager;
+
+    public GameTests(@Autowired RulesService rulesService,
+                     @Autowired TeamService teamService,
+                     @Autowired GameService gameService,
+                     @Autowired ScoreSheetService scoreSheetService,
+                     @Autowired LeagueService leagueService,
+                     @Autowired CacheManager cacheManager) {
         this.rulesService = rulesService;
         this.teamService = teamService;
         this.gameService = gameService;
+        this.scoreSheetService = scoreSheetService;
+        this.leagueService = leagueService;
+        this.cacheManager = cacheManager;
     }
 
     @Test
@@ -39,6 +56,43 @@ class GameTests extends VbrServiceTests {
         Assertions.assertEquals(game.getId(), games.getContent().getFirst().getId());
     }
 
+    @Test
+    void test_games_list_withoutCount() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var game = sandbox.createBeachGame(user.getId());
+
+        // WHEN
+        Page<GameSummaryDto> games = gameService.listGames(user, Set.of(), Set.of(), Set.of(), PagingRequest.of(0, 20, false));
+
+        // THEN
+        Assertions.assertEquals(1, games.getContent().size());
+        Assertions.assertEquals(game.getId(), games.getContent().getFirst().getId());
+        Assertions.assertFalse(games.hasNext());
+        Assertions.assertEquals(PageDto.UNKNOWN_TOTAL, games.getTotalElements());
+        Assertions.assertEquals(PageDto.UNKNOWN_TOTAL, games.getTotalPages());
+    }
+
+    @Test
+    void test_games_list_withCursor() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var game1 = sandbox.createBeachGame(user.getId());
+        var game2 = sandbox.createBeachGame(user.getId());
+        var firstPage = (PageDto<GameSummaryDto>) gameService.listGames(user, Set.of(), Set.of(), Set.of(), PagingRequest.of(0, 1, false));
+
+        // WHEN
+        Page<GameSummaryDto> games = gameService.listGames(user, Set.of(), Set.of(), Set.of(),
+                                                           PagingRequest.of(0, 1, false, firstPage.getNextCursor()));
+
+        // THEN
+        Assertions.assertTrue(firstPage.hasNext());
+        Assertions.assertEquals(1, games.getContent().size());
+        Assertions.assertEquals(Set.of(game1.getId(), game2.getId()),
+                                Set.of(firstPage.getContent().getFirst().getId(), games.getContent().getFirst().getId()));
+        Assertions.assertFalse(games.hasNext());
+    }
+
     @Test
     void test_games_list_byStatus() {
         // GIVEN
@@ -143,6 +197,35 @@ class GameTests extends VbrServiceTests {
         Assertions.assertEquals(game.getId(), games.getContent().getFirst().getId());
     }
 
+    @Test
+    void test_games_list_liveInLeague() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var game = sandbox.createBeachGame(user.getId());
+
+        // WHEN
+        List<GameSummaryDto> games = gameService.listLiveGamesInLeague(game.getLeague().getId());
+
+        // THEN
+        Assertions.assertEquals(1, games.size());
+        Assertions.assertEquals(game.getId(), games.getFirst().getId());
+    }
+
+    @Test
+    void test_games_list_liveInLeague_completed() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var game = sandbox.createBeachGame(user.getId());
+        game.setStatus(GameStatus.COMPLETED);
+        gameService.upsertGame(user, game);
+
+        // WHEN
+        List<GameSummaryDto> games = gameService.listLiveGamesInLeague(game.getLeague().getId());
+
+        // THEN
+        Assertions.assertTrue(games.isEmpty());
+    }
+
     @Test
     void test_games_get() {
         // GIVEN
@@ -223,6 +306,95 @@ class GameTests extends VbrServiceTests {
         Assertions.assertNotNull(game2);
     }
 
+    @Test
+    void test_games_update_bulkUpsert() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var liveGame = sandbox.createBeachGame(user.getId());
+        liveGame.setStatus(GameStatus.COMPLETED);
+        var completedGame = sandbox.generateBeachGame(user.getId());
+        completedGame.setStatus(GameStatus.COMPLETED);
+        gameService.upsertGame(user, completedGame);
+        var newGame = sandbox.generateBeachGame(user.getId());
+
+        // WHEN
+        var results = gameService.upsertGames(user, List.of(liveGame, completedGame, newGame));
+
+        // THEN
+        Assertions.assertEquals(3, results.size());
+        Assertions.assertEquals(HttpStatus.OK, results.get(0).status());
+        Assertions.assertEquals(HttpStatus.CONFLICT, results.get(1).status());
+        Assertions.assertEquals(HttpStatus.OK, results.get(2).status());
+        Assertions.assertEquals(GameStatus.COMPLETED, gameService.getGame(user, liveGame.getId()).getStatus());
+        Assertions.assertNotNull(gameService.getGame(user, newGame.getId()));
+    }
+
+    @Test
+    void test_games_update_bulkUpsert_newLeague() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var game1 = sandbox.generateBeachGame(user.getId());
+        game1.getLeague().setDivision("Division 1");
+        var game2 = sandbox.generateBeachGame(user.getId());
+        game2.getLeague().setId(game1.getLeague().getId());
+        game2.getLeague().setName(game1.getLeague().getName());
+        game2.getLeague().setDivision("Division 2");
+
+        // WHEN
+        var results = gameService.upsertGames(user, List.of(game1, game2));
+
+        // THEN
+        Assertions.assertEquals(HttpStatus.OK, results.get(0).status());
+        Assertions.assertEquals(HttpStatus.OK, results.get(1).status());
+        Assertions.assertEquals(Set.of("Division 1", "Division 2"),
+                                Set.copyOf(leagueService.getLeague(user, game1.getLeague().getId()).getDivisions()));
+    }
+
+    @Test
+    void test_games_update_bulkUpsert_changedLeague() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var game = sandbox.createBeachGame(user.getId());
+        var previousLeagueId = game.getLeague().getId();
+        gameService.getGamesInLeagueGroupedByStatus(previousLeagueId);
+        game.setLeague(sandbox.generateSelectedBeachLeague(user.getId()));
+
+        // WHEN
+        var results = gameService.upsertGames(user, List.of(game));
+
+        // THEN
+        Assertions.assertEquals(HttpStatus.OK, results.getFirst().status());
+        Assertions.assertNull(cacheManager.getCache(CacheConfiguration.DASHBOARDS_CACHE).get(previousLeagueId));
+    }
+
+    @Test
+    void test_games_update_bulkUpsert_otherUser() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var otherUser = sandbox.createAndGetUser();
+        var otherGame = sandbox.createBeachGame(otherUser.getId());
+        var game = sandbox.generateBeachGame(user.getId());
+        game.setId(otherGame.getId());
+
+        // WHEN
+        var results = gameService.upsertGames(user, List.of(game));
+
+        // THEN
+        Assertions.assertEquals(HttpStatus.CONFLICT, results.get(0).status());
+        Assertions.assertEquals(otherUser.getId(), gameService.getGame(otherGame.getId()).getCreatedBy());
+    }
+
+    @Test
+    void test_games_update_bulkUpsert_duplicate() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var game = sandbox.generateBeachGame(user.getId());
+
+        // WHEN / THEN
+        var exception = Assertions.assertThrows(ResponseStatusException.class, () -> gameService.upsertGames(user, List.of(game, game)));
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
     @Test
     void test_games_set_update() {
         // GIVEN
@@ -238,6 +410,83 @@ class GameTests extends VbrServiceTests {
         Assertions.assertEquals(1, game2.getSets().size());
     }
 
+    @Test
+    void test_games_set_update_score() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var game = sandbox.createBeachGame(user.getId());
+        var set = sandbox.generateSet();
+        set.setHomePoints(12);
+        set.setGuestPoints(9);
+
+        // WHEN
+        gameService.updateSet(user, game.getId(), 1, set);
+
+        // THEN
+        var game2 = gameService.getGame(user, game.getId());
+        Assertions.assertEquals(12, game2.getSets().getFirst().getHomePoints());
+        Assertions.assertEquals(9, game2.getSets().getFirst().getGuestPoints());
+        Assertions.assertEquals("12-9", game2.getScore());
+    }
+
+    @Test
+    void test_games_set_update_notFound() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var game = sandbox.createBeachGame(user.getId());
+
+        // WHEN / THEN
+        assertThrows(ResponseStatusException.class, () -> gameService.updateSet(user, game.getId(), 2, sandbox.generateSet()));
+    }
+
+    @Test
+    void test_games_rallyEvent_point() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var game = sandbox.createBeachGame(user.getId());
+
+        // WHEN
+        gameService.addRallyEvent(user, game.getId(), 1, new RallyEventDto(RallyEventType.POINT, TeamType.HOME, 0, 0, null, 0));
+        gameService.addRallyEvent(user, game.getId(), 1, new RallyEventDto(RallyEventType.POINT, TeamType.GUEST, 0, 0, null, 0));
+        gameService.addRallyEvent(user, game.getId(), 1, new RallyEventDto(RallyEventType.POINT, TeamType.HOME, 0, 0, null, 0));
+
+        // THEN
+        var game2 = gameService.getGame(user, game.getId());
+        Assertions.assertEquals(2, game2.getSets().getFirst().getHomePoints());
+        Assertions.assertEquals(1, game2.getSets().getFirst().getGuestPoints());
+        Assertions.assertEquals(List.of("H", "G", "H"), game2.getSets().getFirst().getLadder());
+        Assertions.assertEquals("H", game2.getSets().getFirst().getServing());
+        Assertions.assertEquals("2-1", game2.getScore());
+    }
+
+    @Test
+    void test_games_rallyEvent_sanction() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var game = sandbox.createBeachGame(user.getId());
+
+        // WHEN
+        gameService.addRallyEvent(user, game.getId(), 1, new RallyEventDto(RallyEventType.SANCTION, TeamType.GUEST, 0, 0, "Y", 2));
+
+        // THEN
+        var game2 = gameService.getGame(user, game.getId());
+        Assertions.assertEquals(1, game2.getGuestCards().size());
+        Assertions.assertEquals("Y", game2.getGuestCards().getFirst().getCard());
+        Assertions.assertEquals(0, game2.getGuestCards().getFirst().getSet());
+    }
+
+    @Test
+    void test_games_rallyEvent_noTimeoutLeft() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var game = sandbox.createBeachGame(user.getId());
+
+        // WHEN / THEN
+        assertThrows(ResponseStatusException.class, () -> gameService.addRallyEvent(user, game.getId(), 1,
+                                                                                   new RallyEventDto(RallyEventType.TIMEOUT, TeamType.HOME, 0,
+                                                                                                     0, null, 0)));
+    }
+
     @Test
     void test_games_create_refereedByFriend() {
         // GIVEN
@@ -545,6 +794,23 @@ class GameTests extends VbrServiceTests {
         assertEquals(1, gameSummary.getTotalElements());
     }
 
+    @Test
+    void test_games_public_list_token_renamedTeam() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var game = sandbox.createScheduledBeachGame(user.getId());
+        var team = teamService.getTeam(user, game.getHomeTeamId());
+        team.setName("Zephyrus Volley");
+        teamService.updateTeam(user, team);
+
+        // WHEN
+        Page<GameSummaryDto> gameSummary = gameService.listGamesMatchingToken("Zephyr", null, null, null, PageRequest.of(0, 20));
+
+        // THEN
+        assertEquals(1, gameSummary.getTotalElements());
+        assertEquals(game.getId(), gameSummary.getContent().getFirst().getId());
+    }
+
     @Test
     void test_games_public_list_token_noMatch() {
         // GIVEN
@@ -659,13 +925,170 @@ class GameTests extends VbrServiceTests {
         // GIVEN
         var user = sandbox.createAndGetUser();
         var game = sandbox.createScheduledBeachGame(user.getId());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
         // WHEN
         var fileWrapper = Assertions.assertDoesNotThrow(
                 () -> gameService.listGamesInDivisionExcel(game.getLeagueId(), game.getDivisionName()));
+        Assertions.assertDoesNotThrow(() -> fileWrapper.content().writeTo(outputStream));
 
         // THEN
         Assertions.assertNotNull(fileWrapper);
-        Assertions.assertNotNull(fileWrapper.data());
+        Assertions.assertTrue(fileWrapper.filename().endsWith(".xlsx"));
+        Assertions.assertTrue(outputStream.size() > 0);
+    }
+
+    @Test
+    void test_games_public_rankingsInDivision_maintained() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        Game game1 = sandbox.createBeachGame(user.getId());
+        game1.setStatus(GameStatus.COMPLETED);
+        game1.setHomeSets(1);
+        gameService.upsertGame(user, game1);
+        UUID leagueId = game1.getLeague().getId();
+        String divisionName = game1.getLeague().getDivision();
+        assertEquals(2, gameService.listRankingsInDivision(leagueId, divisionName).size());
+
+        Game game2 = sandbox.generateBeachGame(user.getId());
+        game2.setLeague(game1.getLeague());
+        game2.setStatus(GameStatus.COMPLETED);
+        game2.setGuestSets(1);
+
+        // WHEN
+        gameService.upsertGame(user, game2);
+
+        // THEN
+        var rankings = gameService.listRankingsInDivision(leagueId, divisionName);
+        assertEquals(4, rankings.size());
+        assertEquals(2, rankings.stream().mapToInt(RankingDto::getMatchesFor).sum());
+
+        gameService.deleteGame(user, game2.getId());
+        assertEquals(2, gameService.listRankingsInDivision(leagueId, divisionName).size());
+    }
+
+    @Test
+    void test_games_public_last10GamesInDivision_evictedOnChange() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        Game game1 = sandbox.createBeachGame(user.getId());
+        game1.setStatus(GameStatus.COMPLETED);
+        gameService.upsertGame(user, game1);
+        UUID leagueId = game1.getLeague().getId();
+        String divisionName = game1.getLeague().getDivision();
+        assertEquals(1, gameService.listLast10GamesInDivision(leagueId, divisionName).size());
+        assertNotNull(gameService.getGamesInDivisionGroupedByStatus(leagueId, divisionName));
+
+        Game game2 = sandbox.generateBeachGame(user.getId());
+        game2.setLeague(game1.getLeague());
+        game2.setStatus(GameStatus.COMPLETED);
+
+        // WHEN
+        gameService.upsertGame(user, game2);
+
+        // THEN
+        assertEquals(2, gameService.listLast10GamesInDivision(leagueId, divisionName).size());
+
+        gameService.deleteGame(user, game2.getId());
+        assertEquals(1, gameService.listLast10GamesInDivision(leagueId, divisionName).size());
+    }
+
+    @Test
+    void test_games_public_versionOfGamesInDivision_changesOnDelete() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        Game game1 = sandbox.createBeachGame(user.getId());
+        Game game2 = sandbox.generateBeachGame(user.getId());
+        game2.setLeague(game1.getLeague());
+        gameService.upsertGame(user, game2);
+        UUID leagueId = game1.getLeague().getId();
+        String divisionName = game1.getLeague().getDivision();
+        ResourceVersionDto version = gameService.getVersionOfGamesInDivision(leagueId, divisionName);
+
+        // WHEN
+        gameService.deleteGame(user, game1.getId());
+
+        // THEN
+        assertEquals(2L, version.count());
+        assertNotEquals(version.eTag(), gameService.getVersionOfGamesInDivision(leagueId, divisionName).eTag());
+        assertThrows(ResponseStatusException.class, () -> gameService.getGameVersion(game1.getId()));
+    }
+
+    @Test
+    void test_games_public_scoreSheet() throws IOException {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        Game game = sandbox.createBeachGame(user.getId());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // WHEN
+        ScoreSheetFile scoreSheet = scoreSheetService.getScoreSheet(game.getId(), true);
+        scoreSheet.content().writeTo(outputStream);
+
+        // THEN
+        String html = outputStream.toString(StandardCharsets.UTF_8);
+        assertTrue(scoreSheet.filename().endsWith(".html"));
+        assertTrue(scoreSheet.eTag().startsWith("W/"));
+        assertFalse(scoreSheet.gzipped());
+        assertTrue(html.startsWith("<!doctype html>"));
+        assertTrue(html.contains("id=\"div-set-1\""));
+        assertTrue(html.endsWith("</html>\n"));
+    }
+
+    @Test
+    void test_games_public_scoreSheet_completed() throws IOException {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        Game game = sandbox.generateBeachGame(user.getId());
+        game.setStatus(GameStatus.COMPLETED);
+        gameService.upsertGame(user, game);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ByteArrayOutputStream gzippedOutputStream = new ByteArrayOutputStream();
+
+        // WHEN
+        ScoreSheetFile scoreSheet = scoreSheetService.getScoreSheet(game.getId(), false);
+        scoreSheet.content().writeTo(outputStream);
+        ScoreSheetFile gzippedScoreSheet = scoreSheetService.getScoreSheet(game.getId(), true);
+        gzippedScoreSheet.content().writeTo(gzippedOutputStream);
+
+        // THEN
+        assertFalse(scoreSheet.eTag().startsWith("W/"));
+        assertFalse(scoreSheet.gzipped());
+        assertEquals(outputStream.size(), scoreSheet.contentLength());
+        assertTrue(outputStream.toString(StandardCharsets.UTF_8).contains("id=\"div-set-1\""));
+        assertTrue(gzippedScoreSheet.gzipped());
+        assertEquals(gzippedOutputStream.size(), gzippedScoreSheet.contentLength());
+        assertNotEquals(scoreSheet.eTag(), gzippedScoreSheet.eTag());
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(gzippedOutputStream.toByteArray()))) {
+            assertArrayEquals(outputStream.toByteArray(), inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    void test_games_public_scoreSheetPdf() throws IOException {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        Game game = sandbox.generateBeachGame(user.getId());
+        game.setStatus(GameStatus.COMPLETED);
+        gameService.upsertGame(user, game);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ByteArrayOutputStream divisionOutputStream = new ByteArrayOutputStream();
+
+        // WHEN
+        StreamingFileWrapper scoreSheet = scoreSheetService.getScoreSheetPdf(game.getId());
+        scoreSheet.content().writeTo(outputStream);
+        StreamingFileWrapper scoreSheets = scoreSheetService.listScoreSheetsPdfInDivision(game.getLeague().getId(),
+                                                                                          game.getLeague().getDivision());
+        scoreSheets.content().writeTo(divisionOutputStream);
+
+        // THEN
+        String pdf = outputStream.toString(StandardCharsets.ISO_8859_1);
+        assertTrue(scoreSheet.filename().endsWith(".pdf"));
+        assertTrue(pdf.startsWith("%PDF-1.4"));
+        assertTrue(pdf.endsWith("%%EOF\n"));
+        String divisionPdf = divisionOutputStream.toString(StandardCharsets.ISO_8859_1);
+        assertTrue(scoreSheets.filename().endsWith(".pdf"));
+        assertTrue(divisionPdf.startsWith("%PDF-1.4"));
+        assertTrue(divisionPdf.endsWith("%%EOF\n"));
     }
 }
@@ -0,0 +1,63 @@
+package com.tonkar.volleyballreferee.service;
+
+import com.tonkar.volleyballreferee.dto.GameSummaryDto;
+import com.tonkar.volleyballreferee.entity.*;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.*;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.Set;
+
+import static org.awaitility.Awaitility.await;
+
+@TestPropertySource(properties = "vbr.live.change-stream-enabled=true")
+class LiveGameTests extends VbrServiceTests {
+
+    private final LiveGameRegistry liveGameRegistry;
+    private final MongoTemplate    mongoTemplate;
+
+    public LiveGameTests(@Autowired LiveGameRegistry liveGameRegistry, @Autowired MongoTemplate mongoTemplate) {
+        this.liveGameRegistry = liveGameRegistry;
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Test
+    void test_live_changeStream_active() {
+        // WHEN
+        liveGameRegistry.start();
+
+        // THEN
+        await().atMost(Duration.ofSeconds(10)).until(liveGameRegistry::isChangeStreamActive);
+    }
+
+    @Test
+    void test_live_changeStream_directWrite() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var game = sandbox.createBeachGame(user.getId());
+        liveGameRegistry.start();
+        await().atMost(Duration.ofSeconds(10)).until(liveGameRegistry::isChangeStreamActive);
+        Assertions.assertTrue(isLive(game.getId()));
+
+        // WHEN
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(game.getId())),
+                                  Update.update(Game.Fields.status, GameStatus.COMPLETED), Game.class);
+
+        // THEN
+        await().atMost(Duration.ofSeconds(10)).until(() -> !isLive(game.getId()));
+    }
+
+    private boolean isLive(UUID gameId) {
+        return liveGameRegistry
+                .listLiveGames(Set.of(), Set.of(), PageRequest.of(0, 100))
+                .getContent()
+                .stream()
+                .map(GameSummaryDto::getId)
+                .anyMatch(gameId::equals);
+    }
+}
@@ -1,15 +1,31 @@
 package com.tonkar.volleyballreferee.service;
 
+import com.tonkar.volleyballreferee.configuration.CacheConfiguration;
+import com.tonkar.volleyballreferee.dao.StatisticsDao;
+import com.tonkar.volleyballreferee.entity.GameType;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 
 class StatisticsTests extends VbrServiceTests {
 
     private final StatisticsService statisticsService;
 
-    public StatisticsTests(@Autowired StatisticsService statisticsService) {
+    private final GameService gameService;
+
+    private final StatisticsDao statisticsDao;
+
+    private final CacheManager cacheManager;
+
+    public StatisticsTests(@Autowired StatisticsService statisticsService,
+                           @Autowired GameService gameService,
+                           @Autowired StatisticsDao statisticsDao,
+                           @Autowired CacheManager cacheManager) {
         super();
         this.statisticsService = statisticsService;
+        this.gameService = gameService;
+        this.statisticsDao = statisticsDao;
+        this.cacheManager = cacheManager;
     }
 
     @Test
@@ -51,4 +67,46 @@ class StatisticsTests extends VbrServiceTests {
         Assertions.assertTrue(3 <= statistics.globalStatistics().teamStatistics().getFirst().count());
         Assertions.assertTrue(2 <= statistics.globalStatistics().gameStatistics().getFirst().count());
     }
+
+    @Test
+    void test_statistics_get_cachedPerUser() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+
+        // WHEN
+        statisticsService.getUserStatistics(user);
+
+        // THEN
+        Assertions.assertNotNull(cacheManager.getCache(CacheConfiguration.USER_STATISTICS_CACHE).get(user.getId()));
+        Assertions.assertNull(cacheManager.getCache(CacheConfiguration.GLOBAL_STATISTICS_CACHE).get(user.getId()));
+    }
+
+    @Test
+    void test_statistics_deleteGame_decrementsCounters() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var game = sandbox.createBeachGame(user.getId());
+
+        // WHEN
+        gameService.deleteGame(user, game.getId());
+
+        // THEN
+        var statistics = statisticsDao.findUserStatistics(user.getId());
+        Assertions.assertTrue(statistics.userStatistics().gameStatistics().isEmpty());
+    }
+
+    @Test
+    void test_statistics_reconcile() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        sandbox.createBeachGame(user.getId());
+        statisticsDao.incrementGames(user.getId(), GameType.BEACH, 5L);
+
+        // WHEN
+        statisticsService.reconcileStatistics();
+
+        // THEN
+        var statistics = statisticsDao.findUserStatistics(user.getId());
+        Assertions.assertEquals(1, statistics.userStatistics().gameStatistics().getFirst().count());
+    }
 }
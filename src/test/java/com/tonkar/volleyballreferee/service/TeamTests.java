@@ -1,8 +1,10 @@
 package com.tonkar.volleyballreferee.service;
 
+import com.tonkar.volleyballreferee.configuration.CacheConfiguration;
 import com.tonkar.volleyballreferee.entity.*;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -11,11 +13,15 @@ import java.util.Set;
 
 class TeamTests extends VbrServiceTests {
 
-    private final TeamService teamService;
+    private final TeamService  teamService;
+    private final GameService  gameService;
+    private final CacheManager cacheManager;
 
-    public TeamTests(@Autowired TeamService teamService) {
+    public TeamTests(@Autowired TeamService teamService, @Autowired GameService gameService, @Autowired CacheManager cacheManager) {
         super();
         this.teamService = teamService;
+        this.gameService = gameService;
+        this.cacheManager = cacheManager;
     }
 
     @Test
@@ -232,6 +238,25 @@ class TeamTests extends VbrServiceTests {
         Assertions.assertEquals(team.getColor(), team2.getColor());
     }
 
+    @Test
+    void test_teams_update_evictsCompletedLeague() {
+        // GIVEN
+        var user = sandbox.createAndGetUser();
+        var team = sandbox.createBeachTeam(user.getId());
+        var game = sandbox.generateBeachGame(user.getId());
+        game.setHomeTeam(team);
+        game.setStatus(GameStatus.COMPLETED);
+        gameService.upsertGame(user, game);
+        gameService.getGamesInLeagueGroupedByStatus(game.getLeague().getId());
+        team.setName(faker.team().name());
+
+        // WHEN
+        teamService.updateTeam(user, team);
+
+        // THEN
+        Assertions.assertNull(cacheManager.getCache(CacheConfiguration.DASHBOARDS_CACHE).get(game.getLeague().getId()));
+    }
+
     @Test
     void test_teams_update_notFound() {
         // GIVEN
@@ -1,9 +1,14 @@
 package com.tonkar.volleyballreferee.service;
 
+import com.tonkar.volleyballreferee.dao.UserDao;
 import com.tonkar.volleyballreferee.dto.*;
 import com.tonkar.volleyballreferee.entity.*;
+import com.tonkar.volleyballreferee.security.PrincipalCache;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.server.ResponseStatusException;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -14,10 +19,23 @@ class UserTests extends VbrServiceTests {
 
     private final GameService gameService;
 
-    public UserTests(@Autowired UserService userService, @Autowired GameService gameService) {
+    private final AuthService authService;
+
+    private final PrincipalCache principalCache;
+
+    private final UserDao userDao;
+
+    public UserTests(@Autowired UserService userService,
+                     @Autowired GameService gameService,
+                     @Autowired AuthService authService,
+                     @Autowired PrincipalCache principalCache,
+                     @Autowired UserDao userDao) {
         super();
         this.userService = userService;
         this.gameService = gameService;
+        this.authService = authService;
+        this.principalCache = principalCache;
+        this.userDao = userDao;
     }
 
     @Test
@@ -34,6 +52,50 @@ class UserTests extends VbrServiceTests {
         Assertions.assertNotNull(token.token());
     }
 
+    @Test
+    void test_users_refreshToken() {
+        // GIVEN
+        User user = sandbox.createAndGetUser();
+        var token = userService.signInUser(user.getPseudo(), sandbox.validPassword());
+
+        // WHEN
+        var refreshedToken = userService.refreshToken(token.refreshToken());
+
+        // THEN
+        Assertions.assertNotNull(refreshedToken.token());
+        Assertions.assertEquals(user.getId(), refreshedToken.user().id());
+        Assertions.assertEquals(AuthService.ACCESS_TOKEN,
+                                authService.verifyToken(refreshedToken.token()).getClaim(AuthService.TOKEN_TYPE_CLAIM).asString());
+    }
+
+    @Test
+    void test_users_refreshToken_accessToken_unauthorized() {
+        // GIVEN
+        User user = sandbox.createAndGetUser();
+        var token = userService.signInUser(user.getPseudo(), sandbox.validPassword());
+
+        // WHEN / THEN
+        Assertions.assertThrows(ResponseStatusException.class, () -> userService.refreshToken(token.token()));
+    }
+
+    @Test
+    void test_users_signIn_upgradesPasswordEncoding() {
+        // GIVEN
+        User user = sandbox.createAndGetUser();
+        String currentPassword = sandbox.validPassword();
+        String outdatedPassword = new BCryptPasswordEncoder(4).encode(currentPassword);
+        userDao.updateUserPassword(user.getId(), outdatedPassword);
+
+        // WHEN
+        userService.signInUser(user.getPseudo(), currentPassword);
+
+        // THEN
+        String upgradedPassword = userService.getUser(user.getId()).getPassword();
+        Assertions.assertNotEquals(outdatedPassword, upgradedPassword);
+        Assertions.assertFalse(authService.isPasswordEncodingOutdated(upgradedPassword));
+        Assertions.assertTrue(authService.matchesPassword(currentPassword, upgradedPassword));
+    }
+
     @Test
     void test_users_signIn_unauthorized() {
         // GIVEN
@@ -43,6 +105,22 @@ class UserTests extends VbrServiceTests {
         Assertions.assertThrows(ResponseStatusException.class, () -> userService.signInUser(user.getPseudo(), sandbox.invalidPassword()));
     }
 
+    @Test
+    void test_users_signIn_hashingTimeout() {
+        // GIVEN
+        AuthService slowAuthService = new AuthService("timeout-key-timeout-key-timeout-key-timeout-key", "timeout", 15, 90, 0,
+                                                      AuthService.BCRYPT_ENCODER, 16, 1, 1, 1);
+
+        // WHEN
+        ResponseStatusException exception = Assertions.assertThrows(ResponseStatusException.class,
+                                                                    () -> slowAuthService.encodePassword(sandbox.validPassword()));
+
+        // THEN
+        Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+        Assertions.assertEquals(1, slowAuthService.getPasswordHashingStats().rejected());
+        slowAuthService.shutdownPasswordHashing();
+    }
+
     @Test
     void test_users_updatePassword() {
         // GIVEN
@@ -93,6 +171,7 @@ class UserTests extends VbrServiceTests {
 
         Game game = sandbox.generateBeachGame(user.getId());
         gameService.upsertGame(user, game);
+        long updatedAt = gameService.getGame(game.getId()).getUpdatedAt();
 
         String newPseudo = faker.name().firstName();
 
@@ -102,6 +181,7 @@ class UserTests extends VbrServiceTests {
         // THEN
         assertEquals(newPseudo, userSummary.pseudo());
         assertEquals(newPseudo, gameService.getGame(game.getId()).getRefereeName());
+        assertTrue(gameService.getGame(game.getId()).getUpdatedAt() > updatedAt);
         assertTrue(userService
                            .getUser(user2.getId())
                            .getFriends()
@@ -109,6 +189,24 @@ class UserTests extends VbrServiceTests {
                            .anyMatch(friend -> friend.getId().equals(user.getId()) && friend.getPseudo().equals(newPseudo)));
     }
 
+    @Test
+    void test_users_updatePseudo_searchGames() {
+        // GIVEN
+        User user = sandbox.createAndGetUser();
+        Game game = sandbox.generateBeachGame(user.getId());
+        gameService.upsertGame(user, game);
+
+        String newPseudo = user.getPseudo() + "Zyx";
+
+        // WHEN
+        userService.updateUserPseudo(user, newPseudo);
+
+        // THEN
+        var games = gameService.listGamesMatchingToken(newPseudo, null, null, null, PageRequest.of(0, 20));
+        assertEquals(1, games.getTotalElements());
+        assertEquals(game.getId(), games.getContent().getFirst().getId());
+    }
+
     @Test
     void test_users_updatePseudo_conflict() {
         // GIVEN
@@ -118,4 +216,36 @@ class UserTests extends VbrServiceTests {
         // WHEN / THEN
         assertThrows(ResponseStatusException.class, () -> userService.updateUserPseudo(user, newPseudo));
     }
+
+    @Test
+    void test_users_updatePseudo_evictsPrincipal() {
+        // GIVEN
+        User user = sandbox.createAndGetUser();
+        String token = authService.generateToken(user).token();
+        principalCache.put(authService.verifyToken(token), user);
+        assertTrue(principalCache.get(token).isPresent());
+
+        // WHEN
+        userService.updateUserPseudo(user, user.getPseudo() + "Zyx");
+
+        // THEN
+        assertTrue(principalCache.get(token).isEmpty());
+    }
+
+    @Test
+    void test_users_principalCache_severalTokens() {
+        // GIVEN
+        User user = sandbox.createAndGetUser();
+        String token1 = authService.generateToken(user).token();
+        String token2 = authService.generateToken(user).token();
+
+        // WHEN
+        principalCache.put(authService.verifyToken(token1), user);
+        principalCache.put(authService.verifyToken(token2), user);
+
+        // THEN
+        assertTrue(principalCache.get(token1).isPresent());
+        assertTrue(principalCache.get(token2).isPresent());
+        assertTrue(principalCache.get(token1 + "x").isEmpty());
+    }
 }
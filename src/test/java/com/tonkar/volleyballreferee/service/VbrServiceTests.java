@@ -53,5 +53,8 @@ class VbrServiceTests {
         if (mongoTemplate.collectionExists(Game.class)) {
             mongoTemplate.dropCollection(Game.class);
         }
+        if (mongoTemplate.collectionExists(Standings.class)) {
+            mongoTemplate.dropCollection(Standings.class);
+        }
     }
 }